@@ -0,0 +1,60 @@
+package br.com.ada.currencyapi.benchmark;
+
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dados compartilhados pelos benchmarks JMH: um catálogo com todas as moedas ISO 4217 do JDK (tamanho próximo ao da
+ * migração V1) e cotações fixas no formato devolvido pela AwesomeAPI.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Currency> currencies() {
+        AtomicLong ids = new AtomicLong();
+        return java.util.Currency.getAvailableCurrencies().stream()
+                .sorted(Comparator.comparing(java.util.Currency::getCurrencyCode))
+                .map(currency -> Currency.builder()
+                        .id(ids.incrementAndGet())
+                        .code(currency.getCurrencyCode())
+                        .name(currency.getDisplayName(Locale.forLanguageTag("pt-BR")))
+                        .build())
+                .toList();
+    }
+
+    public static CurrencyRepository currencyRepository() {
+        CurrencyRepository repository = mock(CurrencyRepository.class);
+        when(repository.findAll()).thenReturn(currencies());
+        return repository;
+    }
+
+    /**
+     * Resposta da AwesomeAPI para uma lista de pares separados por vírgula, com a mesma cotação para todos.
+     */
+    public static Map<String, ExchangeRate> quotes(String pairs) {
+        Map<String, ExchangeRate> response = new HashMap<>();
+        for (String pair : pairs.split(",")) {
+            response.put(pair, ExchangeRate.builder()
+                    .pair(pair)
+                    .rate(new BigDecimal("4.9876"))
+                    .fetchedAt(Instant.now())
+                    .build());
+        }
+        return response;
+    }
+}
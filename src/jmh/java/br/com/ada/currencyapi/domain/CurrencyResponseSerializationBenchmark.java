@@ -0,0 +1,48 @@
+package br.com.ada.currencyapi.domain;
+
+import br.com.ada.currencyapi.benchmark.BenchmarkFixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a serialização JSON da lista de {@link CurrencyResponse} do catálogo, com um ObjectMapper genérico e com um
+ * ObjectWriter já resolvido para o tipo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<CurrencyResponse> currencies;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, CurrencyResponse.class));
+        currencies = BenchmarkFixtures.currencies().stream()
+                .map(currency -> CurrencyResponse.builder()
+                        .label(String.format("%s - %s", currency.getCode(), currency.getName()))
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(currencies);
+    }
+
+    @Benchmark
+    public byte[] typedWriter() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(currencies);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import br.com.ada.currencyapi.support.StubAwesomeApiServer;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara uma chamada Feign ao servidor stub da AwesomeAPI pelo transporte padrão (HttpURLConnection) e pelo Apache
+ * HttpClient 5, sem reaproveitar conexões e com o pool configurado em {@code spring.cloud.openfeign.httpclient.*}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeignTransportBenchmark {
+
+    public enum Transport {
+        URL_CONNECTION,
+        HC5_UNPOOLED,
+        HC5_POOLED
+    }
+
+    interface LastQuotes {
+        @RequestLine("GET /last/{pairs}")
+        String last(@feign.Param("pairs") String pairs);
+    }
+
+    @Param({"URL_CONNECTION", "HC5_UNPOOLED", "HC5_POOLED"})
+    public Transport transport;
+
+    private StubAwesomeApiServer stub;
+    private CloseableHttpClient httpClient;
+    private LastQuotes quotes;
+
+    @Setup
+    public void setUp() throws IOException {
+        stub = new StubAwesomeApiServer(Duration.ZERO);
+        Client client = switch (transport) {
+            case URL_CONNECTION -> new Client.Default(null, null);
+            case HC5_UNPOOLED -> new ApacheHttp5Client(httpClient = HttpClients.custom()
+                    .setConnectionReuseStrategy((request, response, context) -> false)
+                    .build());
+            case HC5_POOLED -> new ApacheHttp5Client(httpClient = HttpClients.custom()
+                    .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                            .setMaxConnTotal(200)
+                            .setMaxConnPerRoute(50)
+                            .build())
+                    .build());
+        };
+        quotes = Feign.builder().client(client).target(LastQuotes.class, stub.baseUrl());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        stub.close();
+    }
+
+    @Benchmark
+    public String last() {
+        return quotes.last("USD-BRL");
+    }
+}
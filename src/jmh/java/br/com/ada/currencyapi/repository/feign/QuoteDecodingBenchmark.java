@@ -0,0 +1,67 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a leitura de uma resposta de pré-carga com 150 pares vinculando todos os campos de cada cotação com o
+ * ObjectMapper ou lendo apenas par e low com o {@link AwesomeApiQuoteParser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteDecodingBenchmark {
+
+    private static final int PAIRS = 150;
+    private static final TypeReference<Map<String, FullQuote>> FULL_QUOTES = new TypeReference<>() {
+    };
+
+    public record FullQuote(String code, String codein, String name, BigDecimal high, BigDecimal low, BigDecimal varBid,
+                            BigDecimal pctChange, BigDecimal bid, BigDecimal ask, String timestamp, String create_date) {
+    }
+
+    private byte[] body;
+    private ObjectMapper objectMapper;
+    private AwesomeApiQuoteParser parser;
+
+    @Setup
+    public void setUp() {
+        body = payload();
+        objectMapper = new ObjectMapper();
+        parser = new AwesomeApiQuoteParser(objectMapper);
+    }
+
+    @Benchmark
+    public Map<String, FullQuote> objectMapper() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(body), FULL_QUOTES);
+    }
+
+    @Benchmark
+    public Map<String, ExchangeRate> quoteParser() throws IOException {
+        return parser.parse(new ByteArrayInputStream(body));
+    }
+
+    private static byte[] payload() {
+        StringJoiner json = new StringJoiner(",", "{", "}");
+        for (int i = 0; i < PAIRS; i++) {
+            String code = "C" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+            json.add("\"" + code + "BRL\":{\"code\":\"" + code + "\",\"codein\":\"BRL\",\"name\":\"Moeda " + code
+                    + "/Real Brasileiro\",\"high\":\"5.1234\",\"low\":\"4.9876\",\"varBid\":\"-0.0123\",\"pctChange\":\"-0.24\","
+                    + "\"bid\":\"5.0011\",\"ask\":\"5.0023\",\"timestamp\":\"1718312400\",\"create_date\":\"2024-06-13 17:00:00\"}");
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.ada.currencyapi.service;
+
+import br.com.ada.currencyapi.benchmark.BenchmarkFixtures;
+import br.com.ada.currencyapi.config.CatalogProperties;
+import br.com.ada.currencyapi.config.ConversionProperties;
+import br.com.ada.currencyapi.config.CrossRateProperties;
+import br.com.ada.currencyapi.config.CurrencyMetricsProperties;
+import br.com.ada.currencyapi.config.RateBatchProperties;
+import br.com.ada.currencyapi.config.RateCacheProperties;
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalog;
+import br.com.ada.currencyapi.service.catalog.CurrencySearchIndex;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import br.com.ada.currencyapi.service.rate.AwesomeApiRateSource;
+import br.com.ada.currencyapi.service.rate.CrossRateEngine;
+import br.com.ada.currencyapi.service.rate.ExchangeRateCache;
+import br.com.ada.currencyapi.service.rate.RateBatchDispatcher;
+import br.com.ada.currencyapi.service.rate.RateSnapshot;
+import br.com.ada.currencyapi.service.rate.RateSnapshotHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede {@link CurrencyService#convert} com o AwesomeAPIClient substituído por um stub em memória, tanto pelo vetor
+ * pré-carregado (SNAPSHOT) quanto pelo cache de cotações diretas (CACHE).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyServiceConvertBenchmark {
+
+    public enum RateSource {
+        SNAPSHOT,
+        CACHE
+    }
+
+    @Param({"SNAPSHOT", "CACHE"})
+    public RateSource rateSource;
+
+    private CurrencyService currencyService;
+    private ConvertCurrencyRequest request;
+
+    @Setup
+    public void setUp() {
+        RateBatchDispatcher batchDispatcher = new RateBatchDispatcher(
+                new AwesomeApiRateSource(BenchmarkFixtures::quotes, CircuitBreaker.ofDefaults("awesomeApi")),
+                new RateBatchProperties(), Runnable::run);
+        ExchangeRateCache exchangeRateCache = new ExchangeRateCache(batchDispatcher, new RateCacheProperties(), Runnable::run);
+        RatePrefetchProperties prefetchProperties = new RatePrefetchProperties();
+        RateSnapshotHolder snapshotHolder = new RateSnapshotHolder(prefetchProperties);
+        if (rateSource == RateSource.SNAPSHOT) {
+            snapshotHolder.publish(new RateSnapshot(prefetchProperties.getBaseCurrency(),
+                    BenchmarkFixtures.quotes("USD-BRL,EUR-BRL"), Instant.now()));
+        }
+        CurrencyRepository currencyRepository = BenchmarkFixtures.currencyRepository();
+        currencyService = new CurrencyService(exchangeRateCache,
+                new CrossRateEngine(snapshotHolder, prefetchProperties, new CrossRateProperties()),
+                currencyRepository, new CurrencyCatalog(currencyRepository, new ObjectMapper()), event -> {
+        }, new ConversionArithmetic(new ConversionProperties()),
+                new CurrencyMetrics(new SimpleMeterRegistry(), new CurrencyMetricsProperties()), new CatalogProperties(),
+                new CurrencySearchIndex(currencyRepository));
+
+        request = new ConvertCurrencyRequest();
+        request.setFrom("USD");
+        request.setTo("EUR");
+        request.setAmount(new BigDecimal("1234.56"));
+        currencyService.convert(request);
+    }
+
+    @Benchmark
+    public ConvertCurrencyResponse convert() {
+        return currencyService.convert(request);
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.benchmark.BenchmarkFixtures;
+import br.com.ada.currencyapi.domain.CurrencyResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a leitura do catálogo servida por {@code CurrencyService.get()} e a renderização completa da visão (rótulos,
+ * JSON e ETag) feita a cada alteração do catálogo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyCatalogBenchmark {
+
+    private CurrencyCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = new CurrencyCatalog(BenchmarkFixtures.currencyRepository(), new ObjectMapper());
+        catalog.view();
+    }
+
+    @Benchmark
+    public List<CurrencyResponse> getCurrencies() {
+        return catalog.view().getCurrencies();
+    }
+
+    @Benchmark
+    public CurrencyCatalogView render() {
+        catalog.rebuild();
+        return catalog.view();
+    }
+}
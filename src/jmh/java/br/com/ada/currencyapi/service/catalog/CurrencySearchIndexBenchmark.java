@@ -0,0 +1,37 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.benchmark.BenchmarkFixtures;
+import br.com.ada.currencyapi.domain.Currency;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a busca de {@code GET /currency/search} sobre o catálogo ISO 4217 completo, de um prefixo curto (muitos
+ * candidatos no intervalo) a um código exato.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencySearchIndexBenchmark {
+
+    @Param({"d", "dolar", "dolar aus", "brl"})
+    public String query;
+
+    private CurrencySearchIndex searchIndex;
+
+    @Setup
+    public void setUp() {
+        searchIndex = new CurrencySearchIndex(BenchmarkFixtures.currencyRepository());
+        searchIndex.warmUp();
+    }
+
+    @Benchmark
+    public List<Currency> search() {
+        return searchIndex.search(query, 10);
+    }
+}
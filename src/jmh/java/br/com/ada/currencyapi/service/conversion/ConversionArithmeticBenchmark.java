@@ -0,0 +1,52 @@
+package br.com.ada.currencyapi.service.conversion;
+
+import br.com.ada.currencyapi.config.ConversionProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a multiplicação de valor por taxa com BigDecimal (com e sem arredondamento) e com o cálculo em ponto fixo
+ * do {@link ConversionArithmetic}, para valores que cabem em long e para valores que caem no BigDecimal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionArithmeticBenchmark {
+
+    @Param({"1234.56", "123456789012345678.99"})
+    public String amount;
+
+    private BigDecimal value;
+    private BigDecimal rate;
+    private ScaledRate scaledRate;
+    private ConversionArithmetic arithmetic;
+
+    @Setup
+    public void setUp() {
+        value = new BigDecimal(amount);
+        rate = new BigDecimal("4.9876");
+        scaledRate = ScaledRate.of(rate);
+        arithmetic = new ConversionArithmetic(new ConversionProperties());
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalMultiply() {
+        return value.multiply(rate);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalMultiplyAndRound() {
+        return value.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public BigDecimal fixedPoint() {
+        return arithmetic.convert(value, scaledRate, "BRL");
+    }
+}
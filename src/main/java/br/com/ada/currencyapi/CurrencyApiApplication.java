@@ -3,11 +3,15 @@ package br.com.ada.currencyapi;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
+@ConfigurationPropertiesScan
+@EnableScheduling
 @ImportAutoConfiguration({FeignAutoConfiguration.class})
 public class CurrencyApiApplication {
 
@@ -0,0 +1,17 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "currency.catalog")
+public class CatalogProperties {
+    private Duration maxAge = Duration.ofSeconds(30);
+    private int defaultPageSize = 50;
+    private int maxPageSize = 500;
+    private int defaultSearchLimit = 10;
+    private int maxSearchLimit = 50;
+    private int maxBulkSize = 1000;
+}
@@ -0,0 +1,16 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "currency.conversion")
+public class ConversionProperties {
+    private RoundingMode roundingMode = RoundingMode.HALF_EVEN;
+    private int defaultFractionDigits = 2;
+    private Map<String, Integer> fractionDigits = new HashMap<>();
+}
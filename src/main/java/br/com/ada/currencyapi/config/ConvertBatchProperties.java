@@ -0,0 +1,11 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "currency.convert-batch")
+public class ConvertBatchProperties {
+    private int maxSize = 10_000;
+    private int lookupParallelism = 16;
+}
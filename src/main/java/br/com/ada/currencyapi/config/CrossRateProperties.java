@@ -0,0 +1,13 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.RoundingMode;
+
+@Data
+@ConfigurationProperties(prefix = "currency.cross-rate")
+public class CrossRateProperties {
+    private int precision = 16;
+    private RoundingMode roundingMode = RoundingMode.HALF_EVEN;
+}
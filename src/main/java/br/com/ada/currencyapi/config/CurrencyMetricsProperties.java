@@ -0,0 +1,10 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "currency.metrics")
+public class CurrencyMetricsProperties {
+    private int maxPairTags = 200;
+}
@@ -0,0 +1,40 @@
+package br.com.ada.currencyapi.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for work that blocks on the AwesomeAPI. With {@code spring.threads.virtual.enabled=true} they run each
+ * task on a virtual thread, matching the servlet request threads Spring Boot then uses.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Bean
+    public ExecutorService upstreamExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upstream-", 0).factory());
+        }
+        return Executors.newCachedThreadPool(daemonThreadFactory("upstream-"));
+    }
+
+    @Bean
+    public ExecutorService convertBatchExecutor(Environment environment, ConvertBatchProperties properties) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("convert-batch-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(properties.getLookupParallelism(), daemonThreadFactory("convert-batch-"));
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
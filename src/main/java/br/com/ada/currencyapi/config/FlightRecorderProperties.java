@@ -0,0 +1,17 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "currency.jfr")
+public class FlightRecorderProperties {
+    private String settings = "profile";
+    private Path dumpDirectory = Path.of(System.getProperty("java.io.tmpdir"), "currency-api-jfr");
+    private Duration maxAge = Duration.ofMinutes(30);
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+}
@@ -0,0 +1,14 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "currency.rate-batch")
+public class RateBatchProperties {
+    private boolean enabled = true;
+    private Duration window = Duration.ofMillis(3);
+    private int maxPairs = 20;
+}
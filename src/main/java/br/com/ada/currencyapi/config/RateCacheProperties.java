@@ -0,0 +1,16 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "currency.rate-cache")
+public class RateCacheProperties {
+    private Duration ttl = Duration.ofSeconds(60);
+    private Duration refreshAfter = Duration.ofSeconds(45);
+    private long maxEntries = 1_000;
+    private Duration staleMaxAge = Duration.ofHours(1);
+    private Duration unknownPairTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,30 @@
+package br.com.ada.currencyapi.config;
+
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@Configuration
+public class RateCircuitBreakerConfig {
+
+    /**
+     * Shared by the blocking and reactive AwesomeAPI sources. A 404 means the upstream answered (the pair is unknown),
+     * so it counts neither as a failure nor as a success.
+     */
+    @Bean
+    public CircuitBreaker awesomeApiCircuitBreaker(RateCircuitBreakerProperties properties) {
+        return CircuitBreaker.of("awesomeApi", CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDuration())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+                .ignoreExceptions(FeignException.NotFound.class, WebClientResponseException.NotFound.class)
+                .build());
+    }
+}
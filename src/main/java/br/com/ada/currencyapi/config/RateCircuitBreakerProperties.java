@@ -0,0 +1,18 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "currency.rate-circuit-breaker")
+public class RateCircuitBreakerProperties {
+    private float failureRateThreshold = 50;
+    private float slowCallRateThreshold = 50;
+    private Duration slowCallDuration = Duration.ofSeconds(2);
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    private int permittedCallsInHalfOpenState = 3;
+}
@@ -0,0 +1,17 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "currency.rate-prefetch")
+public class RatePrefetchProperties {
+    private boolean enabled = false;
+    private String baseCurrency = "BRL";
+    private Duration initialDelay = Duration.ZERO;
+    private Duration interval = Duration.ofSeconds(60);
+    private int chunkSize = 50;
+    private Duration maxAge = Duration.ofMinutes(5);
+}
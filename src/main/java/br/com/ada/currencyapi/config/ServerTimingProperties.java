@@ -0,0 +1,15 @@
+package br.com.ada.currencyapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "currency.server-timing")
+public class ServerTimingProperties {
+    private boolean enabled = true;
+    private List<String> excludedPaths = new ArrayList<>(List.of("/currency/convert/stream"));
+    private double logSampleRate = 0.0;
+}
@@ -1,33 +1,85 @@
 package br.com.ada.currencyapi.controller;
 
+import br.com.ada.currencyapi.config.CatalogProperties;
 import br.com.ada.currencyapi.domain.*;
 import br.com.ada.currencyapi.exception.CoinNotFoundException;
 import br.com.ada.currencyapi.exception.CurrencyException;
+import br.com.ada.currencyapi.service.CurrencyBatchService;
 import br.com.ada.currencyapi.service.CurrencyService;
+import br.com.ada.currencyapi.service.CurrencyStreamService;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalogView;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import javax.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/currency")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CurrencyController {
 
     private final CurrencyService currencyService;
+    private final CurrencyBatchService currencyBatchService;
+    private final CurrencyStreamService currencyStreamService;
+    private final CatalogProperties catalogProperties;
 
-    @GetMapping
-    public ResponseEntity<List<CurrencyResponse>> get() {
-        return new ResponseEntity<>(currencyService.get(), HttpStatus.OK);
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> get() {
+        return catalogResponse();
+    }
+
+    /**
+     * Keyset-paginated listing ordered by code; pass the returned {@code nextCursor} as {@code after} for the next page.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CurrencyPageResponse> page(@RequestParam(required = false) String after,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @RequestParam(required = false) String code,
+                                                     @RequestParam(required = false) String name) throws CurrencyException {
+        return new ResponseEntity<>(currencyService.getPage(after, size, code, name), HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<CurrencyItemResponse>> search(@RequestParam String q,
+                                                             @RequestParam(required = false) Integer limit) throws CurrencyException {
+        return new ResponseEntity<>(currencyService.search(q, limit), HttpStatus.OK);
     }
 
     @PostMapping("/convert")
     public ResponseEntity<ConvertCurrencyResponse> convert(@RequestBody @Valid ConvertCurrencyRequest request) throws CoinNotFoundException {
-        return new ResponseEntity<>(currencyService.convert(request), HttpStatus.OK);
+        ConvertCurrencyResponse response = currencyService.convert(request);
+        return new ResponseEntity<>(response, RateHeaders.of(response), HttpStatus.OK);
+    }
+
+    @PostMapping("/convert/batch")
+    public ResponseEntity<List<BatchConvertItemResponse>> convertBatch(@RequestBody List<ConvertCurrencyRequest> requests) throws CurrencyException {
+        return new ResponseEntity<>(currencyBatchService.convert(requests), HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/convert/stream", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StreamingResponseBody> convertStream(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        CurrencyStreamService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? CurrencyStreamService.Format.NDJSON
+                : CurrencyStreamService.Format.CSV;
+        InputStream body = request.getInputStream();
+        StreamingResponseBody stream = output -> currencyStreamService.convert(body, output, format);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(contentType.getType(), contentType.getSubtype(), StandardCharsets.UTF_8))
+                .body(stream);
     }
 
     @PostMapping
@@ -35,6 +87,11 @@ public class CurrencyController {
         return new ResponseEntity<>(currencyService.create(request), HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CurrencyUpsertItemResponse>> upsert(@RequestBody List<CurrencyRequest> requests) throws CurrencyException {
+        return new ResponseEntity<>(currencyService.upsert(requests), HttpStatus.OK);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Void> update(@PathVariable Long id, @RequestBody @Valid CurrencyRequest request) throws CurrencyException {
         currencyService.update(id, request);
@@ -47,9 +104,24 @@ public class CurrencyController {
         return ResponseEntity.ok().build();
     }
 
-    @GetMapping("/list")
-    public ResponseEntity<List<CurrencyResponse>> listCurrencies() {
-        List<CurrencyResponse> currencies = currencyService.getCurrencies();
-        return new ResponseEntity<>(currencies, HttpStatus.OK);
+    @GetMapping("/cache/stats")
+    public ResponseEntity<RateCacheStatsResponse> rateCacheStats() {
+        return new ResponseEntity<>(currencyService.getRateCacheStats(), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> listCurrencies() {
+        return catalogResponse();
+    }
+
+    /**
+     * Spring answers 304 Not Modified on its own when the request's If-None-Match matches the ETag set here.
+     */
+    private ResponseEntity<byte[]> catalogResponse() {
+        CurrencyCatalogView catalog = currencyService.getCatalog();
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.maxAge(catalogProperties.getMaxAge()))
+                .body(catalog.getJson());
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package br.com.ada.currencyapi.controller;
+
+import br.com.ada.currencyapi.domain.FlightRecordingResponse;
+import br.com.ada.currencyapi.service.jfr.FlightRecorderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admin control of the in-process flight recording at {@code /actuator/flightrecording}: {@code GET} for the status,
+ * {@code POST .../start} (optional {@code settings}), {@code POST .../dump} and {@code POST .../stop}. Disabled unless
+ * {@code management.endpoint.flightrecording.enabled=true}, since it writes files on the server.
+ */
+@Component
+@Endpoint(id = "flightrecording", enableByDefault = false)
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private final FlightRecorderService flightRecorderService;
+
+    @ReadOperation
+    public FlightRecordingResponse status() {
+        return flightRecorderService.status();
+    }
+
+    @WriteOperation
+    public FlightRecordingResponse control(@Selector String action, @Nullable String settings) {
+        try {
+            return switch (action) {
+                case "start" -> flightRecorderService.start(settings);
+                case "dump" -> flightRecorderService.dump();
+                case "stop" -> flightRecorderService.stop();
+                default -> throw new InvalidEndpointRequestException("Unknown action: " + action, "Unknown action");
+            };
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.ada.currencyapi.controller;
+
+import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Reports how old the rate behind a conversion is: {@code X-Rate-Age} in seconds, plus a {@code Warning} when the
+ * rate is the last known good one served because the AwesomeAPI could not be reached in time.
+ */
+final class RateHeaders {
+
+    static final String RATE_AGE = "X-Rate-Age";
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private RateHeaders() {
+    }
+
+    static HttpHeaders of(ConvertCurrencyResponse response) {
+        HttpHeaders headers = new HttpHeaders();
+        if (response.getRateFetchedAt() != null) {
+            long age = Math.max(0, Duration.between(response.getRateFetchedAt(), Instant.now()).toSeconds());
+            headers.set(RATE_AGE, String.valueOf(age));
+        }
+        if (response.isStaleRate()) {
+            headers.set(HttpHeaders.WARNING, STALE_WARNING);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.ada.currencyapi.controller;
+
+import br.com.ada.currencyapi.config.CatalogProperties;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import br.com.ada.currencyapi.service.CurrencyService;
+import br.com.ada.currencyapi.service.ReactiveCurrencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Conversion endpoints served by WebFlux when the application runs with the {@code reactive} profile.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/currency")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCurrencyController {
+
+    private final ReactiveCurrencyService reactiveCurrencyService;
+    private final CurrencyService currencyService;
+    private final CatalogProperties catalogProperties;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<byte[]>> get() {
+        return catalogJson();
+    }
+
+    @PostMapping("/convert")
+    public Mono<ResponseEntity<ConvertCurrencyResponse>> convert(@RequestBody ConvertCurrencyRequest request) {
+        return reactiveCurrencyService.convert(request)
+                .map(response -> ResponseEntity.ok().headers(RateHeaders.of(response)).body(response));
+    }
+
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<byte[]>> listCurrencies() {
+        return catalogJson();
+    }
+
+    private Mono<ResponseEntity<byte[]>> catalogJson() {
+        // Only the very first read, before the catalog is warmed up, goes to the database.
+        return Mono.fromCallable(currencyService::getCatalog)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(catalog -> ResponseEntity.ok()
+                        .eTag(catalog.getEtag())
+                        .cacheControl(CacheControl.maxAge(catalogProperties.getMaxAge()))
+                        .body(catalog.getJson()));
+    }
+}
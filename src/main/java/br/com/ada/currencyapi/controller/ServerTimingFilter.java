@@ -0,0 +1,147 @@
+package br.com.ada.currencyapi.controller;
+
+import br.com.ada.currencyapi.config.ServerTimingProperties;
+import br.com.ada.currencyapi.service.timing.RequestTiming;
+import br.com.ada.currencyapi.service.timing.TimingPhase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Starts a {@link RequestTiming} for each request and returns it as a {@code Server-Timing} header. The header has to
+ * go out before the body, so it covers the handler up to the first byte written; serialization time is only reported
+ * in the sampled log line ({@code currency.server-timing.log-sample-rate}). Paths matching
+ * {@code currency.server-timing.excluded-paths} are not timed.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        for (String pattern : properties.getExcludedPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        TimingResponse timedResponse = new TimingResponse(response, timing);
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            timing.stop();
+            timedResponse.writeServerTiming();
+            if (sampled()) {
+                log.info(logLine(request, timedResponse, timing));
+            }
+        }
+    }
+
+    private boolean sampled() {
+        double rate = properties.getLogSampleRate();
+        return rate > 0 && log.isInfoEnabled() && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static String logLine(HttpServletRequest request, TimingResponse response, RequestTiming timing) {
+        long totalNanos = timing.elapsedNanos();
+        StringBuilder line = new StringBuilder(160)
+                .append("server-timing method=").append(request.getMethod())
+                .append(" path=").append(request.getRequestURI())
+                .append(" status=").append(response.getStatus());
+        for (TimingPhase phase : TimingPhase.values()) {
+            if (timing.count(phase) > 0) {
+                appendField(line, phase.metricName(), timing.nanos(phase));
+            }
+        }
+        appendField(line, "app", response.bodyStartNanos);
+        appendField(line, "serialize", totalNanos - response.bodyStartNanos);
+        appendField(line, "total", totalNanos);
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String name, long nanos) {
+        line.append(' ').append(name).append('=');
+        RequestTiming.appendMillis(line, nanos);
+    }
+
+    /**
+     * Adds the header right before the response starts being written, while it can still carry headers.
+     */
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private long bodyStartNanos = -1;
+
+        TimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void writeServerTiming() {
+            if (bodyStartNanos >= 0) {
+                return;
+            }
+            bodyStartNanos = timing.elapsedNanos();
+            if (!isCommitted()) {
+                setHeader(SERVER_TIMING, timing.toServerTiming());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            writeServerTiming();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            writeServerTiming();
+            super.sendError(status, message);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.ada.currencyapi.domain;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class BatchConvertItemResponse {
+    private BigDecimal amount;
+    private RateType rateType;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package br.com.ada.currencyapi.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Value
+@Builder
+public class ConversionRate {
+    BigDecimal rate;
+    RateType type;
+    Instant fetchedAt;
+    boolean stale;
+
+    public static ConversionRate direct(ExchangeRate exchangeRate) {
+        return ConversionRate.builder()
+                .rate(exchangeRate.getRate())
+                .type(RateType.DIRECT)
+                .fetchedAt(exchangeRate.getFetchedAt())
+                .stale(exchangeRate.isStale())
+                .build();
+    }
+}
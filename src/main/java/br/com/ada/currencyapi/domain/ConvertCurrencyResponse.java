@@ -1,12 +1,21 @@
 package br.com.ada.currencyapi.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Data
 @Builder
 public class ConvertCurrencyResponse {
     private BigDecimal amount;
+    private RateType rateType;
+
+    @JsonIgnore
+    private Instant rateFetchedAt;
+
+    @JsonIgnore
+    private boolean staleRate;
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 
 @Data
 @Builder
@@ -16,7 +17,8 @@ import jakarta.persistence.Id;
 @AllArgsConstructor
 public class Currency {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "currency_seq")
+    @SequenceGenerator(name = "currency_seq", sequenceName = "currency_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String code;
@@ -0,0 +1,12 @@
+package br.com.ada.currencyapi.domain;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CurrencyItemResponse {
+    private Long id;
+    private String code;
+    private String name;
+}
@@ -0,0 +1,18 @@
+package br.com.ada.currencyapi.domain;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of the catalog ordered by code. {@code nextCursor} is passed back as {@code after} to read the next page
+ * and is {@code null} on the last one.
+ */
+@Data
+@Builder
+public class CurrencyPageResponse {
+    private List<CurrencyItemResponse> items;
+    private int size;
+    private String nextCursor;
+}
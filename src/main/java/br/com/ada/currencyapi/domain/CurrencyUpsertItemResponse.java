@@ -0,0 +1,13 @@
+package br.com.ada.currencyapi.domain;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CurrencyUpsertItemResponse {
+    private String code;
+    private Long id;
+    private UpsertStatus status;
+    private String error;
+}
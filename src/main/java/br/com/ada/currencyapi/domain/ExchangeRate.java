@@ -0,0 +1,16 @@
+package br.com.ada.currencyapi.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Value
+@Builder(toBuilder = true)
+public class ExchangeRate {
+    String pair;
+    BigDecimal rate;
+    Instant fetchedAt;
+    boolean stale;
+}
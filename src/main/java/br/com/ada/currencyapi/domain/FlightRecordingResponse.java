@@ -0,0 +1,15 @@
+package br.com.ada.currencyapi.domain;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class FlightRecordingResponse {
+    private String state;
+    private String settings;
+    private Instant startedAt;
+    private String dumpFile;
+}
@@ -0,0 +1,7 @@
+package br.com.ada.currencyapi.domain;
+
+public enum RateType {
+    DIRECT,
+    INVERSE,
+    TRIANGULATED
+}
@@ -0,0 +1,17 @@
+package br.com.ada.currencyapi.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StreamConvertLineResponse {
+    private long line;
+    private BigDecimal amount;
+    private RateType rateType;
+    private String error;
+}
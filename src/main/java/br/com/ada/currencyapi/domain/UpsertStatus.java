@@ -0,0 +1,9 @@
+package br.com.ada.currencyapi.domain;
+
+public enum UpsertStatus {
+    CREATED,
+    UPDATED,
+    UNCHANGED,
+    CONFLICT,
+    INVALID
+}
@@ -0,0 +1,8 @@
+package br.com.ada.currencyapi.exception;
+
+public class RateSourceUnavailableException extends RuntimeException {
+
+    public RateSourceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.ada.currencyapi.exception;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRestExceptionHandler extends ResponseEntityExceptionHandler {
+
+    @ExceptionHandler(value = {Exception.class})
+    protected Mono<ResponseEntity<Object>> handleGenericException(Exception ex, ServerWebExchange exchange) {
+        return handleExceptionInternal(ex, "Error while processing your request. Try again later.", new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, exchange);
+    }
+
+    @ExceptionHandler(value = {CurrencyException.class})
+    protected Mono<ResponseEntity<Object>> handleCurrencyException(RuntimeException ex, ServerWebExchange exchange) {
+        return handleExceptionInternal(ex, ex.getMessage(), new HttpHeaders(), HttpStatus.BAD_REQUEST, exchange);
+    }
+
+    @ExceptionHandler(value = {CoinNotFoundException.class})
+    protected Mono<ResponseEntity<Object>> handleNotFoundException(RuntimeException ex, ServerWebExchange exchange) {
+        return handleExceptionInternal(ex, ex.getMessage(), new HttpHeaders(), HttpStatus.NOT_FOUND, exchange);
+    }
+
+    @ExceptionHandler(value = {RateSourceUnavailableException.class})
+    protected Mono<ResponseEntity<Object>> handleRateSourceUnavailableException(RuntimeException ex, ServerWebExchange exchange) {
+        return handleExceptionInternal(ex, "Exchange rate service unavailable. Try again later.", new HttpHeaders(), HttpStatus.SERVICE_UNAVAILABLE, exchange);
+    }
+}
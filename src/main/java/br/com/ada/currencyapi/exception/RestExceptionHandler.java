@@ -1,5 +1,6 @@
 package br.com.ada.currencyapi.exception;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(value = {Exception.class})
@@ -28,4 +30,9 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     protected ResponseEntity<Object> handleNotFoundException(RuntimeException ex, WebRequest request) {
         return handleExceptionInternal(ex, ex.getMessage(), new HttpHeaders(), HttpStatus.NOT_FOUND, request);
     }
+
+    @ExceptionHandler(value = {RateSourceUnavailableException.class})
+    protected ResponseEntity<Object> handleRateSourceUnavailableException(RuntimeException ex, WebRequest request) {
+        return handleExceptionInternal(ex, "Exchange rate service unavailable. Try again later.", new HttpHeaders(), HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
 }
@@ -1,9 +1,36 @@
 package br.com.ada.currencyapi.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import br.com.ada.currencyapi.domain.Currency;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CurrencyRepository extends JpaRepository<Currency, Long> {
-    Currency findByName(String name);
+
+    /**
+     * Keyset page ordered by code: rows strictly after {@code after}, read as a range scan on the unique code index,
+     * so a deep page costs the same as the first. The patterns are {@code LIKE} patterns escaped with {@code \};
+     * pass {@code "%"} to match everything.
+     */
+    @Query("""
+            select c from Currency c
+            where c.code > :after
+              and c.code like :codePattern escape '\\'
+              and lower(c.name) like :namePattern escape '\\'
+            order by c.code""")
+    List<Currency> findPage(@Param("after") String after, @Param("codePattern") String codePattern,
+                            @Param("namePattern") String namePattern, Limit limit);
+
+    List<Currency> findByCodeIn(Collection<String> codes);
+
+    /**
+     * Matches against the generated {@code normalized_name} column, so the lookup uses its index.
+     */
+    @Query(value = "SELECT * FROM currency WHERE normalized_name IN (:names)", nativeQuery = true)
+    List<Currency> findByNormalizedNameIn(@Param("names") Collection<String> names);
 }
@@ -0,0 +1,33 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Capability;
+import feign.codec.Decoder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * Feign configuration for {@link AwesomeAPIClient} only; deliberately not a {@code @Configuration} so component
+ * scanning does not apply the decoder or the metrics to other clients.
+ */
+public class AwesomeApiClientConfiguration {
+
+    /**
+     * Builds its own parser rather than injecting the scanned one: test slices such as {@code @WebMvcTest} and
+     * {@code @DataJpaTest} create this context to resolve the client's type without registering application beans.
+     */
+    @Bean
+    public Decoder awesomeApiQuoteDecoder(ObjectProvider<ObjectMapper> objectMapper) {
+        return new AwesomeApiQuoteDecoder(new AwesomeApiQuoteParser(objectMapper.getIfAvailable(ObjectMapper::new)));
+    }
+
+    /**
+     * The metrics are injected lazily for the same reason, and resolved on the first exchange.
+     */
+    @Bean
+    public Capability awesomeApiMetricsCapability(@Lazy CurrencyMetrics currencyMetrics) {
+        return new TimedFeignCapability(currencyMetrics);
+    }
+}
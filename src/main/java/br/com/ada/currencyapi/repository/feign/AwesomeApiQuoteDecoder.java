@@ -0,0 +1,29 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import feign.Response;
+import feign.codec.Decoder;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Decodes {@link AwesomeAPIClient} responses with {@link AwesomeApiQuoteParser} instead of binding every quote field.
+ */
+@RequiredArgsConstructor
+public class AwesomeApiQuoteDecoder implements Decoder {
+
+    private final AwesomeApiQuoteParser parser;
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (response.body() == null) {
+            return Map.of();
+        }
+        try (InputStream body = response.body().asInputStream()) {
+            return parser.parse(body);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads an AwesomeAPI {@code /last/{pairs}} body with Jackson's token parser and keeps only what the rate store uses:
+ * the pair (from {@code code} and {@code codein}) and the {@code low} quote. Every other field is skipped without
+ * being materialized, and {@code low} is parsed straight from the parser's character buffer.
+ */
+@Component
+public class AwesomeApiQuoteParser {
+
+    private final JsonFactory jsonFactory;
+
+    public AwesomeApiQuoteParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Returns the quotes keyed by pair ({@code USD-BRL}); quotes without a code, counter code or low are left out.
+     */
+    public Map<String, ExchangeRate> parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return readQuotes(parser);
+        }
+    }
+
+    public Map<String, ExchangeRate> parse(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return readQuotes(parser);
+        }
+    }
+
+    private static Map<String, ExchangeRate> readQuotes(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an object of quotes");
+        }
+        Instant fetchedAt = Instant.now();
+        Map<String, ExchangeRate> rates = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String code = null;
+            String codein = null;
+            BigDecimal low = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "code" -> code = parser.getValueAsString();
+                    case "codein" -> codein = parser.getValueAsString();
+                    case "low" -> low = decimal(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (code != null && codein != null && low != null) {
+                String pair = code + "-" + codein;
+                rates.put(pair, ExchangeRate.builder().pair(pair).rate(low).fetchedAt(fetchedAt).build());
+            }
+        }
+        return rates;
+    }
+
+    private static BigDecimal decimal(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return new BigDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
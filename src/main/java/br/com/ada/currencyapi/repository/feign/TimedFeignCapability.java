@@ -0,0 +1,58 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import br.com.ada.currencyapi.service.jfr.UpstreamFetchEvent;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import br.com.ada.currencyapi.service.timing.RequestTiming;
+import br.com.ada.currencyapi.service.timing.TimingPhase;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * Times every HTTP exchange of a Feign client, including calls that end in a 404 or an I/O error, and reports it as
+ * the {@code upstream} phase of the current {@link RequestTiming} when made on a request thread. Each exchange is also
+ * an {@link UpstreamFetchEvent} for Java Flight Recorder. Public because
+ * Feign invokes {@link #enrich(Client)} reflectively.
+ */
+@RequiredArgsConstructor
+public class TimedFeignCapability implements Capability {
+
+    static final String CLIENT = "feign";
+
+    private final CurrencyMetrics currencyMetrics;
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long start = System.nanoTime();
+            long timingMark = RequestTiming.mark();
+            UpstreamFetchEvent event = new UpstreamFetchEvent();
+            event.begin();
+            try {
+                Response response = client.execute(request, options);
+                String outcome = CurrencyMetrics.upstreamOutcome(response.status());
+                currencyMetrics.recordUpstream(CLIENT, outcome, System.nanoTime() - start);
+                event.end(pairs(request.url()), response.status(), outcome);
+                return response;
+            } catch (IOException | RuntimeException e) {
+                currencyMetrics.recordUpstream(CLIENT, CurrencyMetrics.ERROR, System.nanoTime() - start);
+                event.end(pairs(request.url()), UpstreamFetchEvent.NO_STATUS, CurrencyMetrics.ERROR);
+                throw e;
+            } finally {
+                RequestTiming.record(TimingPhase.UPSTREAM, timingMark);
+            }
+        };
+    }
+
+    /**
+     * The pairs are the last path segment of {@code /last/{pairs}}.
+     */
+    static String pairs(String url) {
+        int query = url.indexOf('?');
+        String path = query < 0 ? url : url.substring(0, query);
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.ada.currencyapi.service;
+
+import br.com.ada.currencyapi.config.ConvertBatchProperties;
+import br.com.ada.currencyapi.domain.BatchConvertItemResponse;
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import br.com.ada.currencyapi.exception.CurrencyException;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import br.com.ada.currencyapi.service.conversion.ScaledRate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+
+@Service
+public class CurrencyBatchService {
+
+    private static final String INVALID_BATCH_REQUEST = "Invalid batch request";
+    private static final String BATCH_TOO_LARGE = "Batch exceeds the maximum of %d conversions";
+    private static final String PROCESSING_ERROR = "Error while processing your request. Try again later.";
+
+    private final CurrencyService currencyService;
+    private final ConvertBatchProperties properties;
+    private final ExecutorService rateLookupExecutor;
+    private final ConversionArithmetic conversionArithmetic;
+
+    public CurrencyBatchService(CurrencyService currencyService, ConvertBatchProperties properties,
+                                @Qualifier("convertBatchExecutor") ExecutorService rateLookupExecutor,
+                                ConversionArithmetic conversionArithmetic) {
+        this.currencyService = currencyService;
+        this.properties = properties;
+        this.rateLookupExecutor = rateLookupExecutor;
+        this.conversionArithmetic = conversionArithmetic;
+    }
+
+    /**
+     * Converts every request and returns the results in the same order. Each distinct pair is resolved once, with
+     * the lookups running concurrently, and the amounts are then evaluated in parallel. Invalid items and unknown
+     * pairs are reported on the item instead of failing the whole batch.
+     */
+    public List<BatchConvertItemResponse> convert(List<ConvertCurrencyRequest> requests) throws CurrencyException {
+        if (requests == null || requests.isEmpty()) {
+            throw new CurrencyException(INVALID_BATCH_REQUEST);
+        }
+        if (requests.size() > properties.getMaxSize()) {
+            throw new CurrencyException(String.format(BATCH_TOO_LARGE, properties.getMaxSize()));
+        }
+
+        Map<String, CompletableFuture<PairRate>> rates = new HashMap<>();
+        for (ConvertCurrencyRequest request : requests) {
+            if (isValid(request)) {
+                rates.computeIfAbsent(request.getFrom() + "-" + request.getTo(), pair -> CompletableFuture.supplyAsync(
+                        () -> PairRate.of(currencyService.resolveRate(request.getFrom(), request.getTo())), rateLookupExecutor));
+            }
+        }
+        CompletableFuture.allOf(rates.values().toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        return IntStream.range(0, requests.size())
+                .parallel()
+                .mapToObj(i -> evaluate(requests.get(i), rates))
+                .toList();
+    }
+
+    private BatchConvertItemResponse evaluate(ConvertCurrencyRequest request, Map<String, CompletableFuture<PairRate>> rates) {
+        try {
+            currencyService.validateConvertRequest(request);
+            PairRate rate = rates.get(request.getFrom() + "-" + request.getTo()).join();
+            BatchConvertItemResponse response = BatchConvertItemResponse.builder()
+                    .amount(conversionArithmetic.convert(request.getAmount(), rate.scaled(), request.getTo()))
+                    .rateType(rate.rate().getType())
+                    .build();
+            currencyService.recordConversion(request, null);
+            return response;
+        } catch (CompletionException e) {
+            return failed(request, e.getCause());
+        } catch (RuntimeException e) {
+            return failed(request, e);
+        }
+    }
+
+    private boolean isValid(ConvertCurrencyRequest request) {
+        try {
+            currencyService.validateConvertRequest(request);
+            return true;
+        } catch (CurrencyException e) {
+            return false;
+        }
+    }
+
+    private BatchConvertItemResponse failed(ConvertCurrencyRequest request, Throwable cause) {
+        currencyService.recordConversion(request, cause);
+        return BatchConvertItemResponse.builder()
+                .error(errorMessage(cause))
+                .build();
+    }
+
+    static String errorMessage(Throwable cause) {
+        boolean expected = cause instanceof CurrencyException || cause instanceof CoinNotFoundException
+                || cause instanceof RateSourceUnavailableException;
+        return expected ? cause.getMessage() : PROCESSING_ERROR;
+    }
+
+    private record PairRate(ConversionRate rate, ScaledRate scaled) {
+
+        static PairRate of(ConversionRate rate) {
+            return new PairRate(rate, ScaledRate.of(rate.getRate()));
+        }
+    }
+}
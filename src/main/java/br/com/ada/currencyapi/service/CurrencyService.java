@@ -2,29 +2,58 @@ package br.com.ada.currencyapi.service;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import br.com.ada.currencyapi.config.CatalogProperties;
 import br.com.ada.currencyapi.domain.Currency;
-import br.com.ada.currencyapi.repository.feign.AwesomeAPIClient;
-import br.com.ada.currencyapi.domain.CurrencyAPIResponse;
+import br.com.ada.currencyapi.domain.CurrencyItemResponse;
+import br.com.ada.currencyapi.domain.CurrencyPageResponse;
 import br.com.ada.currencyapi.domain.CurrencyRequest;
 import br.com.ada.currencyapi.domain.CurrencyResponse;
+import br.com.ada.currencyapi.domain.CurrencyUpsertItemResponse;
 import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
 import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.domain.RateCacheStatsResponse;
+import br.com.ada.currencyapi.domain.UpsertStatus;
 import br.com.ada.currencyapi.exception.CoinNotFoundException;
 import br.com.ada.currencyapi.exception.CurrencyException;
 import br.com.ada.currencyapi.repository.CurrencyRepository;
-import feign.FeignException;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalog;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalogChangedEvent;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalogView;
+import br.com.ada.currencyapi.service.catalog.CurrencySearchIndex;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import br.com.ada.currencyapi.service.jfr.CatalogMutationEvent;
+import br.com.ada.currencyapi.service.jfr.ConversionEvent;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import br.com.ada.currencyapi.service.rate.ExchangeRateCache;
+import br.com.ada.currencyapi.service.rate.CrossRateEngine;
+import br.com.ada.currencyapi.service.timing.RequestTiming;
+import br.com.ada.currencyapi.service.timing.TimingPhase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
 public class CurrencyService {
 
-    private final AwesomeAPIClient awesomeApiClient;
+    private final ExchangeRateCache exchangeRateCache;
+    private final CrossRateEngine crossRateEngine;
     private final CurrencyRepository currencyRepository;
+    private final CurrencyCatalog currencyCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConversionArithmetic conversionArithmetic;
+    private final CurrencyMetrics currencyMetrics;
+    private final CatalogProperties catalogProperties;
+    private final CurrencySearchIndex currencySearchIndex;
 
     private static final String INVALID_CURRENCY_REQUEST = "Invalid CurrencyRequest";
     private static final String INVALID_CURRENCY_ID = "Invalid Currency ID";
@@ -32,108 +61,391 @@ public class CurrencyService {
     private static final String COIN_NOT_FOUND = "Coin not found: %s";
     private static final String COIN_ALREADY_EXISTS = "Coin already exists";
     private static final String EXCHANGE_RATE_NOT_FOUND = "Exchange rate not found for %s to %s";
+    private static final String INVALID_PAGE_SIZE = "Invalid page size: must be between 1 and %d";
+    private static final String INVALID_SEARCH_LIMIT = "Invalid search limit: must be between 1 and %d";
+    private static final String INVALID_BULK_REQUEST = "Invalid bulk request: must contain between 1 and %d currencies";
+    private static final String DUPLICATE_CODE_IN_REQUEST = "Duplicate code in request";
 
     public List<CurrencyResponse> get() {
-        List<Currency> currencies = currencyRepository.findAll();
-        List<CurrencyResponse> dtos = new ArrayList<>();
+        return currencyCatalog.view().getCurrencies();
+    }
+
+    public CurrencyCatalogView getCatalog() {
+        return currencyCatalog.view();
+    }
+
+    /**
+     * Reads one keyset page of the catalog ordered by code, starting after the {@code after} cursor. Filters are
+     * optional: {@code codePrefix} is matched in upper case, {@code nameContains} case-insensitively.
+     */
+    @Transactional(readOnly = true)
+    public CurrencyPageResponse getPage(String after, Integer size, String codePrefix, String nameContains) throws CurrencyException {
+        int pageSize = size == null ? catalogProperties.getDefaultPageSize() : size;
+        if (pageSize < 1 || pageSize > catalogProperties.getMaxPageSize()) {
+            throw new CurrencyException(String.format(INVALID_PAGE_SIZE, catalogProperties.getMaxPageSize()));
+        }
 
-        currencies.forEach(currency -> dtos.add(CurrencyResponse.builder()
-                .label(String.format("%s - %s", currency.getCode(), currency.getName()))
-                .build()));
+        List<Currency> rows = currencyRepository.findPage(
+                after == null ? "" : after,
+                StringUtils.hasText(codePrefix) ? escapeLike(codePrefix.trim().toUpperCase(Locale.ROOT)) + "%" : "%",
+                StringUtils.hasText(nameContains) ? "%" + escapeLike(nameContains.trim().toLowerCase(Locale.ROOT)) + "%" : "%",
+                Limit.of(pageSize + 1));
 
-        return dtos;
+        boolean hasNext = rows.size() > pageSize;
+        List<CurrencyItemResponse> items = rows.stream()
+                .limit(pageSize)
+                .map(CurrencyService::toItemResponse)
+                .toList();
+        return CurrencyPageResponse.builder()
+                .items(items)
+                .size(items.size())
+                .nextCursor(hasNext ? items.get(items.size() - 1).getCode() : null)
+                .build();
+    }
+
+    /**
+     * Typeahead search over codes and accent-insensitive names, answered from {@link CurrencySearchIndex} without a
+     * query.
+     */
+    public List<CurrencyItemResponse> search(String query, Integer limit) throws CurrencyException {
+        int maxResults = limit == null ? catalogProperties.getDefaultSearchLimit() : limit;
+        if (maxResults < 1 || maxResults > catalogProperties.getMaxSearchLimit()) {
+            throw new CurrencyException(String.format(INVALID_SEARCH_LIMIT, catalogProperties.getMaxSearchLimit()));
+        }
+        return currencySearchIndex.search(query, maxResults).stream()
+                .map(CurrencyService::toItemResponse)
+                .toList();
     }
 
+    private static CurrencyItemResponse toItemResponse(Currency currency) {
+        return CurrencyItemResponse.builder()
+                .id(currency.getId())
+                .code(currency.getCode())
+                .name(currency.getName())
+                .build();
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Transactional
     public Long create(CurrencyRequest request) throws CurrencyException {
-        validateCurrencyRequest(request);
-        Currency currency = currencyRepository.findByName(request.getName());
+        return mutateCatalog("create", null, request, () -> {
+            validateCurrencyRequest(request);
 
-        if (currency != null) {
-            throw new CurrencyException(COIN_ALREADY_EXISTS);
+            Currency saved;
+            // Ids come from a sequence, so INSERTs are deferred: the uniqueness check can flush writes still pending
+            // in the caller's transaction, and those must surface as a duplicate like the save itself.
+            try {
+                validateCurrencyIsUnique(null, request);
+                saved = currencyRepository.saveAndFlush(Currency.builder()
+                        .name(request.getName())
+                        .code(request.getCode())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                throw new CurrencyException(COIN_ALREADY_EXISTS);
+            }
+            eventPublisher.publishEvent(new CurrencyCatalogChangedEvent(saved.getId()));
+            return saved.getId();
+        });
+    }
+
+    /**
+     * Creates or renames, by code, every currency in {@code requests} within one transaction. Existing rows are read
+     * with two {@code IN} queries and the writes go out as JDBC batches; the result reports each item in request
+     * order. An item that keeps the name its code already has is unchanged, even when other codes share that name,
+     * as the seeded USD and USDT do; otherwise it is a conflict when its code already appeared earlier in the request
+     * or its name is held only by other codes.
+     */
+    @Transactional
+    public List<CurrencyUpsertItemResponse> upsert(List<CurrencyRequest> requests) throws CurrencyException {
+        if (requests == null || requests.isEmpty() || requests.size() > catalogProperties.getMaxBulkSize()) {
+            throw new CurrencyException(String.format(INVALID_BULK_REQUEST, catalogProperties.getMaxBulkSize()));
         }
+        return mutateCatalog("upsert", null, null, () -> {
+            List<CurrencyRequest> valid = requests.stream().filter(CurrencyService::isValid).toList();
+            Map<String, Currency> byCode = new HashMap<>();
+            currencyRepository.findByCodeIn(valid.stream().map(CurrencyRequest::getCode).collect(Collectors.toSet()))
+                    .forEach(currency -> byCode.put(currency.getCode(), currency));
+            Map<String, Set<String>> nameHolders = new HashMap<>();
+            byCode.values().forEach(currency -> holdName(nameHolders, currency.getName(), currency.getCode()));
+            currencyRepository.findByNormalizedNameIn(valid.stream().map(request -> CurrencyCatalogView.normalizeName(request.getName())).collect(Collectors.toSet()))
+                    .forEach(currency -> holdName(nameHolders, currency.getName(), currency.getCode()));
 
-        Currency saved = currencyRepository.save(Currency.builder()
-                .name(request.getName())
-                .code(request.getCode())
-                .build());
-        return saved.getId();
+            Set<String> seenCodes = new HashSet<>();
+            List<Currency> created = new ArrayList<>();
+            List<UpsertItem> items = new ArrayList<>(requests.size());
+            for (CurrencyRequest request : requests) {
+                items.add(upsertItem(request, byCode, nameHolders, seenCodes, created));
+            }
+
+            try {
+                currencyRepository.saveAll(created);
+                currencyRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw new CurrencyException(COIN_ALREADY_EXISTS);
+            }
+            if (items.stream().anyMatch(item -> item.status() == UpsertStatus.CREATED || item.status() == UpsertStatus.UPDATED)) {
+                eventPublisher.publishEvent(new CurrencyCatalogChangedEvent(null));
+            }
+            return items.stream().map(UpsertItem::toResponse).toList();
+        });
     }
 
-    public void update(Long id, CurrencyRequest request) throws CurrencyException {
-        validateCurrencyId(id);
-        validateCurrencyRequest(request);
+    private static UpsertItem upsertItem(CurrencyRequest request, Map<String, Currency> byCode, Map<String, Set<String>> nameHolders,
+                                         Set<String> seenCodes, List<Currency> created) {
+        if (!isValid(request)) {
+            return new UpsertItem(request == null ? null : request.getCode(), null, UpsertStatus.INVALID, INVALID_CURRENCY_REQUEST);
+        }
+        String code = request.getCode();
+        if (!seenCodes.add(code)) {
+            return new UpsertItem(code, null, UpsertStatus.CONFLICT, DUPLICATE_CODE_IN_REQUEST);
+        }
+        Currency existing = byCode.get(code);
+        if (existing != null && existing.getName().equals(request.getName())) {
+            return new UpsertItem(code, existing, UpsertStatus.UNCHANGED, null);
+        }
+        Set<String> holders = nameHolders.getOrDefault(CurrencyCatalogView.normalizeName(request.getName()), Set.of());
+        if (!holders.isEmpty() && !holders.contains(code)) {
+            return new UpsertItem(code, null, UpsertStatus.CONFLICT, COIN_ALREADY_EXISTS);
+        }
+
+        if (existing == null) {
+            Currency currency = Currency.builder().code(code).name(request.getName()).build();
+            created.add(currency);
+            holdName(nameHolders, request.getName(), code);
+            return new UpsertItem(code, currency, UpsertStatus.CREATED, null);
+        }
+        nameHolders.get(CurrencyCatalogView.normalizeName(existing.getName())).remove(code);
+        holdName(nameHolders, request.getName(), code);
+        existing.setName(request.getName());
+        return new UpsertItem(code, existing, UpsertStatus.UPDATED, null);
+    }
+
+    private static void holdName(Map<String, Set<String>> nameHolders, String name, String code) {
+        nameHolders.computeIfAbsent(CurrencyCatalogView.normalizeName(name), key -> new HashSet<>()).add(code);
+    }
 
-        Currency currency = currencyRepository.findById(id).orElseThrow(
-                () -> new CoinNotFoundException(String.format(COIN_NOT_FOUND, id))
-        );
+    /**
+     * The id of a created currency is only known once the batch is persisted, hence the entity reference.
+     */
+    private record UpsertItem(String code, Currency currency, UpsertStatus status, String error) {
 
-        Currency existingCurrency = currencyRepository.findByName(request.getName());
-        if (existingCurrency != null) {
-            throw new CurrencyException(COIN_ALREADY_EXISTS);
+        CurrencyUpsertItemResponse toResponse() {
+            return CurrencyUpsertItemResponse.builder()
+                    .code(code)
+                    .id(currency == null ? null : currency.getId())
+                    .status(status)
+                    .error(error)
+                    .build();
         }
+    }
+
+    @Transactional
+    public void update(Long id, CurrencyRequest request) throws CurrencyException {
+        mutateCatalog("update", id, request, () -> {
+            validateCurrencyId(id);
+            validateCurrencyRequest(request);
+
+            Currency currency = currencyRepository.findById(id).orElseThrow(
+                    () -> new CoinNotFoundException(String.format(COIN_NOT_FOUND, id))
+            );
 
-        currency.setName(request.getName());
-        currency.setCode(request.getCode());
+            try {
+                validateCurrencyIsUnique(currency, request);
 
-        currencyRepository.save(currency);
+                currency.setName(request.getName());
+                currency.setCode(request.getCode());
+                currencyRepository.saveAndFlush(currency);
+            } catch (DataIntegrityViolationException e) {
+                throw new CurrencyException(COIN_ALREADY_EXISTS);
+            }
+            eventPublisher.publishEvent(new CurrencyCatalogChangedEvent(id));
+        });
     }
 
+    @Transactional
     public void delete(Long id) {
-        validateCurrencyId(id);
-        Currency currency = currencyRepository.findById(id).orElseThrow(
-                () -> new CoinNotFoundException(String.format(COIN_NOT_FOUND, id))
-        );
-        currencyRepository.deleteById(currency.getId());
+        mutateCatalog("delete", id, null, () -> {
+            validateCurrencyId(id);
+            Currency currency = currencyRepository.findById(id).orElseThrow(
+                    () -> new CoinNotFoundException(String.format(COIN_NOT_FOUND, id))
+            );
+            currencyRepository.deleteById(currency.getId());
+            eventPublisher.publishEvent(new CurrencyCatalogChangedEvent(id));
+        });
+    }
+
+    /**
+     * Times a catalog mutation for the metrics and the {@link CatalogMutationEvent}; the currency id of a create is
+     * taken from its result.
+     */
+    private <T> T mutateCatalog(String operation, Long id, CurrencyRequest request, Supplier<T> action) {
+        CatalogMutationEvent event = new CatalogMutationEvent();
+        event.begin();
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = currencyMetrics.timeCatalogOperation(operation, action);
+            return result;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end(operation, result instanceof Long createdId ? createdId : id, request == null ? null : request.getCode(), failure);
+        }
+    }
+
+    private void mutateCatalog(String operation, Long id, CurrencyRequest request, Runnable action) {
+        mutateCatalog(operation, id, request, () -> {
+            action.run();
+            return null;
+        });
     }
 
     public ConvertCurrencyResponse convert(ConvertCurrencyRequest request) throws CoinNotFoundException {
-        BigDecimal amount = getAmountWithAwesomeApi(request);
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        try {
+            long validation = RequestTiming.mark();
+            validateConvertRequest(request);
+            RequestTiming.record(TimingPhase.VALIDATE, validation);
+            ConvertCurrencyResponse response = toConvertResponse(request, resolveRate(request.getFrom(), request.getTo()));
+            recordConversion(request, null);
+            event.end(request, response, null);
+            return response;
+        } catch (RuntimeException e) {
+            recordConversion(request, e);
+            event.end(request, null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Counts a conversion outcome for any entry point (single, reactive, batch or stream).
+     */
+    void recordConversion(ConvertCurrencyRequest request, Throwable failure) {
+        currencyMetrics.recordConversion(request == null ? null : request.getFrom(), request == null ? null : request.getTo(), failure);
+    }
+
+    ConvertCurrencyResponse toConvertResponse(ConvertCurrencyRequest request, ConversionRate conversionRate) {
+        long math = RequestTiming.mark();
+        BigDecimal amount = conversionArithmetic.convert(request.getAmount(), conversionRate.getRate(), request.getTo());
+        RequestTiming.record(TimingPhase.MATH, math);
         return ConvertCurrencyResponse.builder()
                 .amount(amount)
+                .rateType(conversionRate.getType())
+                .rateFetchedAt(conversionRate.getFetchedAt())
+                .staleRate(conversionRate.isStale())
                 .build();
     }
 
-    private BigDecimal getAmountWithAwesomeApi(ConvertCurrencyRequest request) throws CoinNotFoundException {
-        validateConvertRequest(request);
-        String code = request.getFrom() + "-" + request.getTo();
+    public ConversionRate resolveRate(String from, String to) throws CoinNotFoundException {
+        long catalogLookup = RequestTiming.mark();
+        boolean knownPair = isKnownPair(from, to);
+        RequestTiming.record(TimingPhase.CATALOG, catalogLookup);
+        if (!knownPair) {
+            throw exchangeRateNotFound(from, to);
+        }
 
-        Map<String, CurrencyAPIResponse> response;
+        long rateLookup = RequestTiming.mark();
         try {
-            response = awesomeApiClient.getLastCurrency(code);
-        } catch (FeignException.NotFound e) {
-            throw new CoinNotFoundException(String.format(EXCHANGE_RATE_NOT_FOUND, request.getTo(), request.getFrom()));
+            return lookupRate(from, to);
+        } finally {
+            RequestTiming.record(TimingPhase.RATE, rateLookup);
+        }
+    }
+
+    private ConversionRate lookupRate(String from, String to) throws CoinNotFoundException {
+        ConversionRate local = crossRateEngine.derive(from, to);
+        if (local != null) {
+            return local;
         }
 
-        String key = code.replace("-", "");
-        CurrencyAPIResponse currencyApiResponse = response.get(key);
+        ExchangeRate direct = getQuoteWithAwesomeApi(from + "-" + to);
+        if (direct != null) {
+            return ConversionRate.direct(direct);
+        }
 
-        return request.getAmount().multiply(currencyApiResponse.getLow());
+        ConversionRate triangulated = to.equals(crossRateEngine.pivotCurrency())
+                ? null
+                : crossRateEngine.derive(from, to, this::getQuoteWithAwesomeApi);
+        if (triangulated == null) {
+            throw exchangeRateNotFound(from, to);
+        }
+        return triangulated;
+    }
+
+    /**
+     * Both codes must be in the local catalog; anything else is rejected from memory before any upstream call.
+     */
+    boolean isKnownPair(String from, String to) {
+        CurrencyCatalogView catalog = currencyCatalog.view();
+        return catalog.findByCode(from) != null && catalog.findByCode(to) != null;
+    }
+
+    static CoinNotFoundException exchangeRateNotFound(String from, String to) {
+        return new CoinNotFoundException(String.format(EXCHANGE_RATE_NOT_FOUND, to, from));
+    }
+
+    private ExchangeRate getQuoteWithAwesomeApi(String code) {
+        return exchangeRateCache.get(code);
+    }
+
+    public RateCacheStatsResponse getRateCacheStats() {
+        return exchangeRateCache.stats();
     }
 
     private void validateCurrencyRequest(CurrencyRequest request) throws CurrencyException {
-        if (request == null || !StringUtils.hasLength(request.getName()) || !StringUtils.hasLength(request.getCode())) {
+        if (!isValid(request)) {
             throw new CurrencyException(INVALID_CURRENCY_REQUEST);
         }
     }
 
+    private static boolean isValid(CurrencyRequest request) {
+        return request != null && StringUtils.hasLength(request.getName()) && StringUtils.hasLength(request.getCode());
+    }
+
+    /**
+     * Rejects {@code request} when another currency holds its code or its name. A currency that keeps its own name
+     * is only checked by code, as in {@link #upsert}, since names such as the seeded USD and USDT are shared.
+     */
+    private void validateCurrencyIsUnique(Currency current, CurrencyRequest request) throws CurrencyException {
+        Long id = current == null ? null : current.getId();
+        boolean keepsName = current != null && CurrencyCatalogView.normalizeName(current.getName())
+                .equals(CurrencyCatalogView.normalizeName(request.getName()));
+        CurrencyCatalogView catalog = currencyCatalog.view();
+        List<Currency> candidates = keepsName ? new ArrayList<>() : new ArrayList<>(catalog.findByName(request.getName()));
+        Currency sameCode = catalog.findByCode(request.getCode());
+        if (sameCode != null) {
+            candidates.add(sameCode);
+        }
+        // The catalog only answers "absent" on its own; a hit is confirmed by primary key so rows removed in the
+        // current transaction, not yet reflected in the catalog, do not count as duplicates.
+        boolean taken = candidates.stream()
+                .map(Currency::getId)
+                .filter(candidateId -> !candidateId.equals(id))
+                .distinct()
+                .anyMatch(currencyRepository::existsById);
+        if (taken) {
+            throw new CurrencyException(COIN_ALREADY_EXISTS);
+        }
+    }
+
     private void validateCurrencyId(Long id) throws CurrencyException {
         if (id == null || id <= 0) {
             throw new CurrencyException(INVALID_CURRENCY_ID);
         }
     }
 
-    private void validateConvertRequest(ConvertCurrencyRequest request) throws CurrencyException {
+    void validateConvertRequest(ConvertCurrencyRequest request) throws CurrencyException {
         if (request == null || !StringUtils.hasLength(request.getFrom()) || !StringUtils.hasLength(request.getTo()) || request.getAmount() == null) {
             throw new CurrencyException(INVALID_CONVERT_REQUEST);
         }
     }
 
     public List<CurrencyResponse> getCurrencies() {
-        List<Currency> currencies = currencyRepository.findAll();
-        return currencies.stream()
-                .map(currency -> CurrencyResponse.builder()
-                        .label(String.format("%s - %s", currency.getCode(), currency.getName()))
-                        .build())
-                .collect(Collectors.toList());
+        return currencyCatalog.view().getCurrencies();
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package br.com.ada.currencyapi.service;
+
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.StreamConvertLineResponse;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import br.com.ada.currencyapi.service.conversion.ScaledRate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts CSV ({@code from,to,amount}) or NDJSON input line by line and writes one result line per input line as it
+ * goes, so memory use does not depend on the input size. Rows that fail validation or have an unknown pair produce an
+ * error line instead of aborting the stream.
+ */
+@Service
+@RequiredArgsConstructor
+public class CurrencyStreamService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final String CSV_HEADER = "line,from,to,amount,converted,rate_type,error";
+    private static final int FLUSH_EVERY_LINES = 256;
+    private static final int MAX_MEMOIZED_PAIRS = 1_024;
+
+    private final CurrencyService currencyService;
+    private final ObjectMapper objectMapper;
+    private final ConversionArithmetic conversionArithmetic;
+
+    public void convert(InputStream input, OutputStream output, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        ObjectReader requestReader = objectMapper.readerFor(ConvertCurrencyRequest.class);
+        ObjectWriter lineWriter = objectMapper.writerFor(StreamConvertLineResponse.class);
+        Map<String, Resolution> rates = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Resolution> eldest) {
+                return size() > MAX_MEMOIZED_PAIRS;
+            }
+        };
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+        }
+
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (format == Format.CSV && lineNumber == 1 && line.trim().startsWith("from"))) {
+                continue;
+            }
+
+            ConvertCurrencyRequest request = format == Format.CSV ? parseCsv(line) : parseJson(requestReader, line);
+            StreamConvertLineResponse result = convertLine(lineNumber, request, rates);
+            if (format == Format.CSV) {
+                writer.write(toCsv(request, result));
+            } else {
+                writer.write(lineWriter.writeValueAsString(result));
+            }
+            writer.newLine();
+
+            if (lineNumber % FLUSH_EVERY_LINES == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private StreamConvertLineResponse convertLine(long lineNumber, ConvertCurrencyRequest request, Map<String, Resolution> rates) {
+        try {
+            currencyService.validateConvertRequest(request);
+            String pair = request.getFrom() + "-" + request.getTo();
+            Resolution resolution = rates.get(pair);
+            if (resolution == null) {
+                resolution = resolve(request.getFrom(), request.getTo());
+                rates.put(pair, resolution);
+            }
+            if (resolution.failure() != null) {
+                throw resolution.failure();
+            }
+            StreamConvertLineResponse response = StreamConvertLineResponse.builder()
+                    .line(lineNumber)
+                    .amount(conversionArithmetic.convert(request.getAmount(), resolution.scaledRate(), request.getTo()))
+                    .rateType(resolution.rate().getType())
+                    .build();
+            currencyService.recordConversion(request, null);
+            return response;
+        } catch (RuntimeException e) {
+            currencyService.recordConversion(request, e);
+            return StreamConvertLineResponse.builder()
+                    .line(lineNumber)
+                    .error(CurrencyBatchService.errorMessage(e))
+                    .build();
+        }
+    }
+
+    /**
+     * Only a rate or a definitive "pair not found" is memoized for the rest of the stream; any other failure, such as
+     * an unavailable AwesomeAPI, is thrown so it fails the current line only and the next row retries the lookup.
+     */
+    private Resolution resolve(String from, String to) {
+        try {
+            ConversionRate rate = currencyService.resolveRate(from, to);
+            return new Resolution(rate, ScaledRate.of(rate.getRate()), null);
+        } catch (CoinNotFoundException e) {
+            return new Resolution(null, null, e);
+        }
+    }
+
+    private static ConvertCurrencyRequest parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 3) {
+            return null;
+        }
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom(columns[0].trim());
+        request.setTo(columns[1].trim());
+        try {
+            request.setAmount(new BigDecimal(columns[2].trim()));
+        } catch (NumberFormatException e) {
+            request.setAmount(null);
+        }
+        return request;
+    }
+
+    private static ConvertCurrencyRequest parseJson(ObjectReader requestReader, String line) {
+        try {
+            return requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String toCsv(ConvertCurrencyRequest request, StreamConvertLineResponse result) {
+        return String.join(",",
+                String.valueOf(result.getLine()),
+                request == null ? "" : csvValue(request.getFrom()),
+                request == null ? "" : csvValue(request.getTo()),
+                request == null || request.getAmount() == null ? "" : request.getAmount().toPlainString(),
+                result.getAmount() == null ? "" : result.getAmount().toPlainString(),
+                result.getRateType() == null ? "" : result.getRateType().name(),
+                csvValue(result.getError()));
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private record Resolution(ConversionRate rate, ScaledRate scaledRate, RuntimeException failure) {
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.ada.currencyapi.service;
+
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.service.rate.CrossRateEngine;
+import br.com.ada.currencyapi.service.rate.ExchangeRateCache;
+import br.com.ada.currencyapi.service.rate.ReactiveAwesomeApiRateSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking version of {@link CurrencyService#convert}. Resolution follows the same order (prefetched snapshot,
+ * direct quote, triangulation through the pivot) and shares the rate cache, but waits on the upstream without
+ * holding a thread.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveCurrencyService {
+
+    private final CurrencyService currencyService;
+    private final ExchangeRateCache exchangeRateCache;
+    private final CrossRateEngine crossRateEngine;
+    private final ReactiveAwesomeApiRateSource rateSource;
+
+    public Mono<ConvertCurrencyResponse> convert(ConvertCurrencyRequest request) {
+        return Mono.fromRunnable(() -> currencyService.validateConvertRequest(request))
+                .then(Mono.defer(() -> resolveRate(request.getFrom(), request.getTo())))
+                .map(conversionRate -> currencyService.toConvertResponse(request, conversionRate))
+                .doOnSuccess(response -> currencyService.recordConversion(request, null))
+                .doOnError(e -> currencyService.recordConversion(request, e));
+    }
+
+    public Mono<ConversionRate> resolveRate(String from, String to) {
+        if (!currencyService.isKnownPair(from, to)) {
+            return Mono.error(CurrencyService.exchangeRateNotFound(from, to));
+        }
+
+        ConversionRate local = crossRateEngine.derive(from, to);
+        if (local != null) {
+            return Mono.just(local);
+        }
+
+        return getQuoteWithAwesomeApi(from + "-" + to)
+                .map(ConversionRate::direct)
+                .switchIfEmpty(Mono.defer(() -> triangulate(from, to)))
+                .switchIfEmpty(Mono.error(() -> CurrencyService.exchangeRateNotFound(from, to)));
+    }
+
+    private Mono<ConversionRate> triangulate(String from, String to) {
+        String pivot = crossRateEngine.pivotCurrency();
+        if (to.equals(pivot)) {
+            return Mono.empty();
+        }
+        return Flux.just(from, to)
+                .filter(code -> !code.equals(pivot))
+                .flatMap(code -> getQuoteWithAwesomeApi(code + "-" + pivot))
+                .collectMap(ExchangeRate::getPair)
+                .mapNotNull(legs -> crossRateEngine.derive(from, to, legs::get));
+    }
+
+    private Mono<ExchangeRate> getQuoteWithAwesomeApi(String pair) {
+        // The cached future is shared with other callers, so cancelling this subscriber must not cancel it.
+        return Mono.fromFuture(() -> exchangeRateCache.getAsync(pair, key -> rateSource.fetch(key).toFuture()), true);
+    }
+}
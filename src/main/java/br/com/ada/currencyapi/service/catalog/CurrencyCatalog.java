@@ -0,0 +1,84 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.domain.CurrencyResponse;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Holds the precomputed catalog view so list reads neither query the database nor format labels. The view is built
+ * on first use and rebuilt only after a catalog change commits; readers always see a complete view, swapped in with
+ * a single volatile write.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrencyCatalog {
+
+    private final CurrencyRepository currencyRepository;
+    private final ObjectMapper objectMapper;
+    private volatile CurrencyCatalogView current;
+
+    public CurrencyCatalogView view() {
+        CurrencyCatalogView view = current;
+        if (view == null) {
+            synchronized (this) {
+                view = current;
+                if (view == null) {
+                    view = build();
+                    current = view;
+                }
+            }
+        }
+        return view;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        view();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CurrencyCatalogChangedEvent event) {
+        rebuild();
+    }
+
+    synchronized void rebuild() {
+        current = build();
+    }
+
+    private CurrencyCatalogView build() {
+        List<Currency> entries = currencyRepository.findAll().stream()
+                .map(CurrencyCatalog::detachedCopy)
+                .toList();
+        List<CurrencyResponse> currencies = entries.stream()
+                .map(CurrencyCatalog::toResponse)
+                .toList();
+        try {
+            return CurrencyCatalogView.of(entries, currencies, objectMapper.writeValueAsBytes(currencies));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the currency catalog", e);
+        }
+    }
+
+    static Currency detachedCopy(Currency currency) {
+        return Currency.builder()
+                .id(currency.getId())
+                .name(currency.getName())
+                .code(currency.getCode())
+                .build();
+    }
+
+    private static CurrencyResponse toResponse(Currency currency) {
+        return CurrencyResponse.builder()
+                .label(String.format("%s - %s", currency.getCode(), currency.getName()))
+                .build();
+    }
+}
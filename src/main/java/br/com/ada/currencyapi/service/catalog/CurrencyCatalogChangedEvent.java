@@ -0,0 +1,8 @@
+package br.com.ada.currencyapi.service.catalog;
+
+/**
+ * Published by the currency service when a currency is created, updated or deleted. {@code currencyId} is
+ * {@code null} when a bulk upsert changed several currencies at once.
+ */
+public record CurrencyCatalogChangedEvent(Long currencyId) {
+}
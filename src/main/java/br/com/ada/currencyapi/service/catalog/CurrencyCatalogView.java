@@ -0,0 +1,82 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.domain.CurrencyResponse;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Immutable view of the catalog as served by {@code GET /currency} and {@code GET /currency/list}: the labelled
+ * entries, the same list already serialized to JSON and a strong ETag derived from those bytes. It also indexes the
+ * currencies by code and by normalized name so existence checks need no query. The byte array and the indexed
+ * entities are shared between requests and must not be modified.
+ */
+public final class CurrencyCatalogView {
+
+    private final List<CurrencyResponse> currencies;
+    private final byte[] json;
+    private final String etag;
+    private final Map<String, Currency> byCode;
+    private final Map<String, List<Currency>> byName;
+
+    private CurrencyCatalogView(List<CurrencyResponse> currencies, byte[] json, String etag,
+                                Map<String, Currency> byCode, Map<String, List<Currency>> byName) {
+        this.currencies = currencies;
+        this.json = json;
+        this.etag = etag;
+        this.byCode = byCode;
+        this.byName = byName;
+    }
+
+    public static CurrencyCatalogView of(List<Currency> entries, List<CurrencyResponse> currencies, byte[] json) {
+        Map<String, Currency> byCode = new HashMap<>(entries.size() * 2);
+        entries.forEach(currency -> byCode.put(currency.getCode(), currency));
+        Map<String, List<Currency>> byName = entries.stream()
+                .collect(groupingBy(currency -> normalizeName(currency.getName())));
+        return new CurrencyCatalogView(List.copyOf(currencies), json, contentHash(json), byCode, byName);
+    }
+
+    /**
+     * Same normalization as the {@code normalized_name} column: surrounding spaces removed and lower-cased.
+     */
+    public static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Currency findByCode(String code) {
+        return byCode.get(code);
+    }
+
+    public List<Currency> findByName(String name) {
+        return byName.getOrDefault(normalizeName(name), List.of());
+    }
+
+    public List<CurrencyResponse> getCurrencies() {
+        return currencies;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    private static String contentHash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typeahead index over currency codes and accent-folded names, kept as one array of terms sorted by key so a query is
+ * a binary search followed by a scan of the matching prefix range. Each name contributes one term per word, holding
+ * the rest of the name from that word on, so "bras" finds "Real Brasileiro" and "dolar aus" finds "Dólar
+ * Australiano". Readers see an immutable snapshot swapped in with a single volatile write; after the initial load,
+ * catalog changes only re-read the affected currency by primary key.
+ */
+@Component
+public class CurrencySearchIndex {
+
+    static final int EXACT_CODE = 0;
+    static final int CODE_PREFIX = 1;
+    static final int NAME_PREFIX = 2;
+    static final int WORD_PREFIX = 3;
+
+    private static final Comparator<Term> TERM_ORDER = Comparator.comparing(Term::key)
+            .thenComparingInt(Term::rank)
+            .thenComparing(term -> term.currency().getCode());
+
+    private final CurrencyRepository currencyRepository;
+    private volatile Term[] terms;
+
+    public CurrencySearchIndex(CurrencyRepository currencyRepository) {
+        this.currencyRepository = currencyRepository;
+    }
+
+    /**
+     * Up to {@code limit} currencies matching {@code query}, best first: exact code, code prefix, name prefix, then a
+     * later word of the name; ties are ordered by code.
+     */
+    public List<Currency> search(String query, int limit) {
+        String prefix = fold(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        Term[] snapshot = terms();
+        Map<Long, Term> best = new HashMap<>();
+        for (int i = lowerBound(snapshot, prefix); i < snapshot.length && snapshot[i].key().startsWith(prefix); i++) {
+            Term term = snapshot[i];
+            Term hit = term.rank() == CODE_PREFIX && term.key().length() == prefix.length()
+                    ? new Term(term.key(), EXACT_CODE, term.currency())
+                    : term;
+            best.merge(term.currency().getId(), hit, (current, candidate) -> candidate.rank() < current.rank() ? candidate : current);
+        }
+        return best.values().stream()
+                .sorted(Comparator.comparingInt(Term::rank).thenComparing(term -> term.currency().getCode()))
+                .limit(limit)
+                .map(Term::currency)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        terms();
+    }
+
+    /**
+     * Patches the index for the one currency that changed, or reloads it after a bulk change. Before the first load
+     * there is nothing to patch: that load reads the committed state anyway.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CurrencyCatalogChangedEvent event) {
+        synchronized (this) {
+            if (terms == null) {
+                return;
+            }
+            if (event.currencyId() == null) {
+                terms = load();
+                return;
+            }
+            Currency changed = currencyRepository.findById(event.currencyId())
+                    .map(CurrencyCatalog::detachedCopy)
+                    .orElse(null);
+            terms = patch(terms, event.currencyId(), changed);
+        }
+    }
+
+    private Term[] terms() {
+        Term[] snapshot = terms;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = terms;
+                if (snapshot == null) {
+                    snapshot = load();
+                    terms = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private Term[] load() {
+        List<Term> built = new ArrayList<>();
+        currencyRepository.findAll().forEach(currency -> addTerms(built, CurrencyCatalog.detachedCopy(currency)));
+        Term[] loaded = built.toArray(Term[]::new);
+        Arrays.sort(loaded, TERM_ORDER);
+        return loaded;
+    }
+
+    /**
+     * Copy of {@code current} without the terms of {@code currencyId}, plus those of {@code changed} when it still
+     * exists. Linear in the index size, which stays small next to the cost of the transaction that triggered it.
+     */
+    static Term[] patch(Term[] current, Long currencyId, Currency changed) {
+        List<Term> added = new ArrayList<>();
+        if (changed != null) {
+            addTerms(added, changed);
+            added.sort(TERM_ORDER);
+        }
+        Term[] patched = new Term[current.length + added.size()];
+        int size = 0;
+        int next = 0;
+        for (Term term : current) {
+            if (term.currency().getId().equals(currencyId)) {
+                continue;
+            }
+            while (next < added.size() && TERM_ORDER.compare(added.get(next), term) < 0) {
+                patched[size++] = added.get(next++);
+            }
+            patched[size++] = term;
+        }
+        while (next < added.size()) {
+            patched[size++] = added.get(next++);
+        }
+        return Arrays.copyOf(patched, size);
+    }
+
+    private static void addTerms(List<Term> target, Currency currency) {
+        target.add(new Term(fold(currency.getCode()), CODE_PREFIX, currency));
+        String name = fold(currency.getName());
+        if (name.isEmpty()) {
+            return;
+        }
+        target.add(new Term(name, NAME_PREFIX, currency));
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            target.add(new Term(name.substring(i + 1), WORD_PREFIX, currency));
+        }
+    }
+
+    private static int lowerBound(Term[] snapshot, String prefix) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (snapshot[middle].key().compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Lower-cased, without diacritics, with every run of characters other than letters and digits reduced to a single
+     * space: "Dólar-Australiano " becomes "dolar australiano".
+     */
+    static String fold(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !folded.isEmpty()) {
+                    folded.append(' ');
+                }
+                pendingSpace = false;
+                folded.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return folded.toString();
+    }
+
+    record Term(String key, int rank, Currency currency) {
+    }
+}
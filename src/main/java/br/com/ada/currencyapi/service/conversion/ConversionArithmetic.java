@@ -0,0 +1,127 @@
+package br.com.ada.currencyapi.service.conversion;
+
+import br.com.ada.currencyapi.config.ConversionProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes {@code amount * rate} rounded to the minor units of the target currency. Amount and rate are multiplied as
+ * scaled longs and the product is rounded with integer arithmetic; values whose product or rescaling would overflow a
+ * long fall back to {@link BigDecimal}. Both paths return exactly
+ * {@code amount.multiply(rate).setScale(fractionDigits(to), roundingMode)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConversionArithmetic {
+
+    private static final long[] POWERS_OF_TEN = new long[ScaledRate.MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final ConversionProperties properties;
+    private final Map<String, Integer> fractionDigitsByCode = new ConcurrentHashMap<>();
+
+    public BigDecimal convert(BigDecimal amount, BigDecimal rate, String to) {
+        return convert(amount, ScaledRate.of(rate), to);
+    }
+
+    public BigDecimal convert(BigDecimal amount, ScaledRate rate, String to) {
+        int targetScale = fractionDigits(to);
+        RoundingMode roundingMode = properties.getRoundingMode();
+        if (rate.fixedPoint() && amount.precision() <= ScaledRate.MAX_LONG_DIGITS) {
+            BigDecimal result = multiplyScaled(ScaledRate.unscaledLong(amount), amount.scale(), rate, targetScale, roundingMode);
+            if (result != null) {
+                return result;
+            }
+        }
+        return amount.multiply(rate.decimal()).setScale(targetScale, roundingMode);
+    }
+
+    /**
+     * Minor-unit digits of {@code code}: the configured override, else the ISO 4217 default, else the configured default
+     * for codes the JDK does not know (crypto and precious metals).
+     */
+    public int fractionDigits(String code) {
+        Integer cached = fractionDigitsByCode.get(code);
+        return cached != null ? cached : fractionDigitsByCode.computeIfAbsent(code, this::resolveFractionDigits);
+    }
+
+    private int resolveFractionDigits(String code) {
+        Integer configured = properties.getFractionDigits().get(code);
+        if (configured != null) {
+            return configured;
+        }
+        try {
+            int digits = Currency.getInstance(code).getDefaultFractionDigits();
+            return digits >= 0 ? digits : properties.getDefaultFractionDigits();
+        } catch (IllegalArgumentException e) {
+            return properties.getDefaultFractionDigits();
+        }
+    }
+
+    /**
+     * Returns the rounded product, or {@code null} when it does not fit the long path.
+     */
+    private static BigDecimal multiplyScaled(long amount, int amountScale, ScaledRate rate, int targetScale,
+                                             RoundingMode roundingMode) {
+        long product = amount * rate.unscaled();
+        if (Math.multiplyHigh(amount, rate.unscaled()) != (product >> 63)) {
+            return null;
+        }
+
+        int shift = amountScale + rate.scale() - targetScale;
+        if (shift == 0) {
+            return BigDecimal.valueOf(product, targetScale);
+        }
+        if (Math.abs(shift) > ScaledRate.MAX_LONG_DIGITS) {
+            return null;
+        }
+        if (shift < 0) {
+            long factor = POWERS_OF_TEN[-shift];
+            long scaled = product * factor;
+            if (Math.multiplyHigh(product, factor) != (scaled >> 63)) {
+                return null;
+            }
+            return BigDecimal.valueOf(scaled, targetScale);
+        }
+
+        long divisor = POWERS_OF_TEN[shift];
+        long quotient = product / divisor;
+        long remainder = product % divisor;
+        return BigDecimal.valueOf(round(quotient, remainder, divisor, Long.signum(product), roundingMode), targetScale);
+    }
+
+    /**
+     * Rounds {@code quotient + remainder / divisor} the way {@link BigDecimal#setScale(int, RoundingMode)} would.
+     */
+    static long round(long quotient, long remainder, long divisor, int sign, RoundingMode roundingMode) {
+        if (remainder == 0) {
+            return quotient;
+        }
+        return switch (roundingMode) {
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+            case DOWN -> quotient;
+            case UP -> quotient + sign;
+            case FLOOR -> sign < 0 ? quotient - 1 : quotient;
+            case CEILING -> sign > 0 ? quotient + 1 : quotient;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                int half = Long.compare(Math.abs(remainder), divisor - Math.abs(remainder));
+                boolean away = half > 0
+                        || half == 0 && (roundingMode == RoundingMode.HALF_UP
+                        || roundingMode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+                yield away ? quotient + sign : quotient;
+            }
+        };
+    }
+}
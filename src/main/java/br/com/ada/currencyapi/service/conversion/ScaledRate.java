@@ -0,0 +1,26 @@
+package br.com.ada.currencyapi.service.conversion;
+
+import java.math.BigDecimal;
+
+/**
+ * A rate held as {@code unscaled / 10^scale} so conversions can multiply longs. {@code fixedPoint} is false when the
+ * rate has more than 18 significant digits and only {@code decimal} can be used.
+ */
+public record ScaledRate(BigDecimal decimal, long unscaled, int scale, boolean fixedPoint) {
+
+    static final int MAX_LONG_DIGITS = 18;
+
+    public static ScaledRate of(BigDecimal rate) {
+        if (rate.precision() > MAX_LONG_DIGITS) {
+            return new ScaledRate(rate, 0, rate.scale(), false);
+        }
+        return new ScaledRate(rate, unscaledLong(rate), rate.scale(), true);
+    }
+
+    /**
+     * Unscaled value of a decimal with at most 18 digits, read without going through {@link BigDecimal#unscaledValue()}.
+     */
+    static long unscaledLong(BigDecimal value) {
+        return value.scale() == 0 ? value.longValue() : value.scaleByPowerOfTen(value.scale()).longValue();
+    }
+}
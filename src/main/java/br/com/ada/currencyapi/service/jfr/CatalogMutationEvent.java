@@ -0,0 +1,43 @@
+package br.com.ada.currencyapi.service.jfr;
+
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One create, update or delete on the currency catalog, including its database round trips.
+ */
+@Name("br.com.ada.currencyapi.CatalogMutation")
+@Label("Catalog Mutation")
+@Category({"Currency API", "Catalog"})
+@Description("A currency create, update or delete")
+@StackTrace(false)
+public class CatalogMutationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Currency ID")
+    long currencyId;
+
+    @Label("Code")
+    String code;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void end(String operation, Long currencyId, String code, Throwable failure) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        this.currencyId = currencyId == null ? 0L : currencyId;
+        this.code = code;
+        this.outcome = CurrencyMetrics.outcome(failure);
+        commit();
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.ada.currencyapi.service.jfr;
+
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code CurrencyService.convert} call, from validation to the converted amount.
+ */
+@Name("br.com.ada.currencyapi.Conversion")
+@Label("Currency Conversion")
+@Category({"Currency API", "Conversion"})
+@Description("A single currency conversion")
+@StackTrace(false)
+public class ConversionEvent extends Event {
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Amount")
+    String amount;
+
+    @Label("Rate Type")
+    String rateType;
+
+    @Label("Stale Rate")
+    boolean staleRate;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Fills in the fields and commits, unless the event is disabled or below its threshold.
+     */
+    public void end(ConvertCurrencyRequest request, ConvertCurrencyResponse response, Throwable failure) {
+        if (!shouldCommit()) {
+            return;
+        }
+        if (request != null) {
+            from = request.getFrom();
+            to = request.getTo();
+            amount = request.getAmount() == null ? null : request.getAmount().toPlainString();
+        }
+        if (response != null) {
+            rateType = response.getRateType() == null ? null : response.getRateType().name();
+            staleRate = response.isStaleRate();
+        }
+        outcome = CurrencyMetrics.outcome(failure);
+        commit();
+    }
+}
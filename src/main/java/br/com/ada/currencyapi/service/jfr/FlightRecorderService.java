@@ -0,0 +1,136 @@
+package br.com.ada.currencyapi.service.jfr;
+
+import br.com.ada.currencyapi.config.FlightRecorderProperties;
+import br.com.ada.currencyapi.domain.FlightRecordingResponse;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Runs at most one in-process Flight Recorder recording with the currency events enabled on top of the chosen JDK
+ * settings ({@code default} or {@code profile}). Dumps go to {@code currency.jfr.dump-directory} under generated names,
+ * never a caller-supplied path.
+ */
+@Service
+public class FlightRecorderService {
+
+    static final String RECORDING_NAME = "currency-api";
+    static final String NOT_RUNNING = "NOT_RUNNING";
+    private static final String ALREADY_RUNNING = "A flight recording is already running";
+    private static final String NO_RECORDING = "No flight recording is running";
+    private static final String UNKNOWN_SETTINGS = "Unknown flight recorder settings: %s";
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTS =
+            List.of(ConversionEvent.class, UpstreamFetchEvent.class, CatalogMutationEvent.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final FlightRecorderProperties properties;
+    private Recording recording;
+    private String settings;
+    private Path lastDump;
+
+    public FlightRecorderService(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized FlightRecordingResponse status() {
+        return response();
+    }
+
+    public synchronized FlightRecordingResponse start(String requestedSettings) {
+        if (isRunning()) {
+            throw new IllegalStateException(ALREADY_RUNNING);
+        }
+        String settingsName = StringUtils.hasText(requestedSettings) ? requestedSettings : properties.getSettings();
+        Recording started = new Recording(configuration(settingsName));
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(properties.getMaxAge());
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        EVENTS.forEach(event -> started.enable(event).withoutStackTrace());
+        started.start();
+
+        closeRecording();
+        recording = started;
+        settings = settingsName;
+        return response();
+    }
+
+    /**
+     * Writes what has been recorded so far without stopping the recording.
+     */
+    public synchronized FlightRecordingResponse dump() {
+        requireRunning();
+        lastDump = dumpTo(recording);
+        return response();
+    }
+
+    public synchronized FlightRecordingResponse stop() {
+        requireRunning();
+        recording.stop();
+        lastDump = dumpTo(recording);
+        FlightRecordingResponse response = response();
+        closeRecording();
+        return response;
+    }
+
+    @PreDestroy
+    synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private void requireRunning() {
+        if (!isRunning()) {
+            throw new IllegalStateException(NO_RECORDING);
+        }
+    }
+
+    private Path dumpTo(Recording source) {
+        try {
+            Files.createDirectories(properties.getDumpDirectory());
+            Path file = properties.getDumpDirectory().resolve(RECORDING_NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+            source.dump(file);
+            return file.toAbsolutePath();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Configuration configuration(String settingsName) {
+        try {
+            return Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException(String.format(UNKNOWN_SETTINGS, settingsName), e);
+        }
+    }
+
+    private FlightRecordingResponse response() {
+        boolean active = recording != null;
+        return FlightRecordingResponse.builder()
+                .state(active ? recording.getState().name() : NOT_RUNNING)
+                .settings(active ? settings : null)
+                .startedAt(active ? recording.getStartTime() : null)
+                .dumpFile(lastDump == null ? null : lastDump.toString())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.ada.currencyapi.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP exchange of {@code AwesomeAPIClient.getLastCurrency}.
+ */
+@Name("br.com.ada.currencyapi.UpstreamFetch")
+@Label("AwesomeAPI Fetch")
+@Category({"Currency API", "Upstream"})
+@Description("A call to the AwesomeAPI last-quote endpoint")
+@StackTrace(false)
+public class UpstreamFetchEvent extends Event {
+
+    /**
+     * Status recorded when the exchange failed before a response arrived.
+     */
+    public static final int NO_STATUS = -1;
+
+    @Label("Pairs")
+    @Description("Comma-separated pairs requested in this call")
+    String pairs;
+
+    @Label("Status")
+    int status;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void end(String pairs, int status, String outcome) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.pairs = pairs;
+        this.status = status;
+        this.outcome = outcome;
+        commit();
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.ada.currencyapi.service.metrics;
+
+import br.com.ada.currencyapi.config.CurrencyMetricsProperties;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import br.com.ada.currencyapi.exception.CurrencyException;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the conversion and catalog paths. Every tag has a bounded set of values: outcomes and
+ * operations are fixed, and pair tags are handed out to the first {@code maxPairTags} distinct pairs that convert
+ * successfully, after which any new pair is counted under {@code other}. Failed conversions never claim a tag, so
+ * arbitrary codes in requests can neither grow the registry nor use up the budget before the real pairs show up.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrencyMetrics {
+
+    public static final String UPSTREAM_REQUESTS = "currency.upstream.requests";
+    public static final String CONVERSIONS = "currency.conversions";
+    public static final String CATALOG_OPERATIONS = "currency.catalog.operations";
+
+    public static final String SUCCESS = "success";
+    public static final String NOT_FOUND = "not_found";
+    public static final String UPSTREAM_ERROR = "upstream_error";
+    public static final String VALIDATION_ERROR = "validation_error";
+    public static final String ERROR = "error";
+
+    static final String OTHER_PAIR = "other";
+    static final String NO_PAIR = "none";
+
+    private final MeterRegistry registry;
+    private final CurrencyMetricsProperties properties;
+    private final Set<String> pairTags = ConcurrentHashMap.newKeySet();
+    private final Map<String, Counter> conversionCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Records one AwesomeAPI call made by {@code client} ({@code feign} or {@code webclient}); {@code outcome} is
+     * derived from the HTTP status, or {@link #ERROR} when no response arrived.
+     */
+    public void recordUpstream(String client, String outcome, long elapsedNanos) {
+        timers.computeIfAbsent(UPSTREAM_REQUESTS + client + outcome, key -> Timer.builder(UPSTREAM_REQUESTS)
+                        .description("AwesomeAPI call latency")
+                        .tag("client", client)
+                        .tag("outcome", outcome)
+                        .publishPercentiles(0.5, 0.9, 0.99)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static String upstreamOutcome(int status) {
+        if (status >= 200 && status < 300) {
+            return SUCCESS;
+        }
+        return status == 404 ? NOT_FOUND : ERROR;
+    }
+
+    /**
+     * Counts one conversion of {@code from}-{@code to}; a {@code null} failure is a success. A failure is counted under
+     * its pair only when an earlier success already gave the pair a tag.
+     */
+    public void recordConversion(String from, String to, Throwable failure) {
+        String outcome = outcome(failure);
+        String pair = VALIDATION_ERROR.equals(outcome) || from == null || to == null
+                ? NO_PAIR
+                : pairTag(from + "-" + to, failure == null);
+        conversionCounters.computeIfAbsent(pair + "|" + outcome, key -> Counter.builder(CONVERSIONS)
+                        .description("Conversions by currency pair and outcome")
+                        .tag("pair", pair)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Runs a catalog CRUD {@code operation} and records its duration and outcome.
+     */
+    public <T> T timeCatalogOperation(String operation, Supplier<T> action) {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            String outcome = outcome(failure);
+            timers.computeIfAbsent(CATALOG_OPERATIONS + operation + outcome, key -> Timer.builder(CATALOG_OPERATIONS)
+                            .description("Catalog create, update and delete latency")
+                            .tag("operation", operation)
+                            .tag("outcome", outcome)
+                            .publishPercentiles(0.5, 0.9, 0.99)
+                            .register(registry))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public static String outcome(Throwable failure) {
+        if (failure == null) {
+            return SUCCESS;
+        }
+        if (failure instanceof CoinNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (failure instanceof RateSourceUnavailableException) {
+            return UPSTREAM_ERROR;
+        }
+        if (failure instanceof CurrencyException) {
+            return VALIDATION_ERROR;
+        }
+        return ERROR;
+    }
+
+    private String pairTag(String pair, boolean allocate) {
+        if (pairTags.contains(pair)) {
+            return pair;
+        }
+        if (!allocate) {
+            return OTHER_PAIR;
+        }
+        synchronized (pairTags) {
+            if (pairTags.size() < properties.getMaxPairTags()) {
+                pairTags.add(pair);
+                return pair;
+            }
+        }
+        return pairTags.contains(pair) ? pair : OTHER_PAIR;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.repository.feign.AwesomeAPIClient;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class AwesomeApiRateSource {
+
+    private static final String UPSTREAM_UNAVAILABLE = "Exchange rate service unavailable for %s";
+
+    private final AwesomeAPIClient awesomeApiClient;
+    private final CircuitBreaker circuitBreaker;
+    private final SingleFlight<String, ExchangeRate> inFlightFetches = new SingleFlight<>();
+
+    public ExchangeRate fetch(String pair) {
+        return inFlightFetches.execute(pair, () -> rateFor(pair, getLastCurrency(pair)));
+    }
+
+    /**
+     * Fetches several pairs with one comma-separated call. The AwesomeAPI answers 404 for the whole request when any
+     * pair is unknown, so a failing request is split in halves until the unknown pairs are isolated; those are left
+     * out of the result.
+     */
+    public Map<String, ExchangeRate> fetchAll(List<String> pairs) {
+        Map<String, ExchangeRate> rates = new HashMap<>();
+        fetchInto(pairs, rates);
+        return rates;
+    }
+
+    private void fetchInto(List<String> pairs, Map<String, ExchangeRate> rates) {
+        Map<String, ExchangeRate> response;
+        try {
+            response = getLastCurrency(String.join(",", pairs));
+        } catch (FeignException.NotFound e) {
+            if (pairs.size() > 1) {
+                int middle = pairs.size() / 2;
+                fetchInto(pairs.subList(0, middle), rates);
+                fetchInto(pairs.subList(middle, pairs.size()), rates);
+            }
+            return;
+        }
+
+        for (String pair : pairs) {
+            ExchangeRate rate = rateFor(pair, response);
+            if (rate != null) {
+                rates.put(pair, rate);
+            }
+        }
+    }
+
+    /**
+     * Calls the AwesomeAPI through the circuit breaker. A 404 is passed on untouched; any other upstream failure, or a
+     * call refused by the open circuit, becomes a {@link RateSourceUnavailableException}.
+     */
+    private Map<String, ExchangeRate> getLastCurrency(String pairs) {
+        try {
+            return circuitBreaker.executeSupplier(() -> awesomeApiClient.getLastCurrency(pairs));
+        } catch (FeignException.NotFound e) {
+            throw e;
+        } catch (CallNotPermittedException | FeignException e) {
+            throw new RateSourceUnavailableException(String.format(UPSTREAM_UNAVAILABLE, pairs), e);
+        }
+    }
+
+    static ExchangeRate rateFor(String pair, Map<String, ExchangeRate> response) {
+        return response == null ? null : response.get(pair);
+    }
+}
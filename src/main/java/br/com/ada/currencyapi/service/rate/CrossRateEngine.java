@@ -0,0 +1,85 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.CrossRateProperties;
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.domain.RateType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Derives any FROM-TO rate from one {@code CODE-PIVOT} quote per currency, where the pivot is the prefetch base
+ * currency: {@code X-PIVOT} is used as is, {@code PIVOT-X} is its inverse and {@code X-Y} is {@code X-PIVOT / Y-PIVOT}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CrossRateEngine {
+
+    private final RateSnapshotHolder snapshotHolder;
+    private final RatePrefetchProperties prefetchProperties;
+    private final CrossRateProperties properties;
+
+    public String pivotCurrency() {
+        return prefetchProperties.getBaseCurrency();
+    }
+
+    /**
+     * Derives the rate from the prefetched pivot vector only, or returns {@code null} when a leg is missing.
+     */
+    public ConversionRate derive(String from, String to) {
+        return derive(from, to, snapshotHolder::findFresh);
+    }
+
+    /**
+     * Derives the rate from the {@code CODE-PIVOT} quotes returned by {@code pivotQuotes}, or returns {@code null}
+     * when a leg is missing.
+     */
+    public ConversionRate derive(String from, String to, Function<String, ExchangeRate> pivotQuotes) {
+        String pivot = pivotCurrency();
+        if (from.equals(to)) {
+            return ConversionRate.builder().rate(BigDecimal.ONE).type(RateType.DIRECT).fetchedAt(Instant.now()).build();
+        }
+        if (to.equals(pivot)) {
+            ExchangeRate leg = usableLeg(pivotQuotes.apply(from + "-" + pivot));
+            return leg == null ? null : ConversionRate.direct(leg);
+        }
+
+        ExchangeRate toLeg = usableLeg(pivotQuotes.apply(to + "-" + pivot));
+        if (toLeg == null) {
+            return null;
+        }
+        if (from.equals(pivot)) {
+            return ConversionRate.builder()
+                    .rate(BigDecimal.ONE.divide(toLeg.getRate(), mathContext()))
+                    .type(RateType.INVERSE)
+                    .fetchedAt(toLeg.getFetchedAt())
+                    .stale(toLeg.isStale())
+                    .build();
+        }
+
+        ExchangeRate fromLeg = usableLeg(pivotQuotes.apply(from + "-" + pivot));
+        if (fromLeg == null) {
+            return null;
+        }
+        return ConversionRate.builder()
+                .rate(fromLeg.getRate().divide(toLeg.getRate(), mathContext()))
+                .type(RateType.TRIANGULATED)
+                .fetchedAt(fromLeg.getFetchedAt().isBefore(toLeg.getFetchedAt()) ? fromLeg.getFetchedAt() : toLeg.getFetchedAt())
+                .stale(fromLeg.isStale() || toLeg.isStale())
+                .build();
+    }
+
+    private MathContext mathContext() {
+        return new MathContext(properties.getPrecision(), properties.getRoundingMode());
+    }
+
+    private static ExchangeRate usableLeg(ExchangeRate leg) {
+        return leg == null || leg.getRate().signum() == 0 ? null : leg;
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RateCacheProperties;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.domain.RateCacheStatsResponse;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import feign.FeignException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Pair-keyed cache in front of the AwesomeAPI. Entries expire after {@code ttl}; once an entry is older than
+ * {@code refreshAfter} the next read still gets the cached rate while a reload runs in the background, so hot
+ * pairs are refreshed ahead of expiry instead of blocking a caller.
+ * <p>
+ * Loads run on the upstream executor and callers wait on the pending future rather than inside the cache's map
+ * lock, so a virtual request thread parks without pinning its carrier while the AwesomeAPI answers.
+ * <p>
+ * Every loaded rate is also kept as the pair's last known good rate for {@code staleMaxAge}. It is served, marked
+ * stale, while a reload of an expired entry is still in flight or when the AwesomeAPI is unavailable.
+ * <p>
+ * Pairs the AwesomeAPI does not quote (a 404, or a response without the pair) are remembered for
+ * {@code unknownPairTtl} and answered with {@code null} straight away, so repeated lookups of unsupported pairs do
+ * not spend upstream calls.
+ * <p>
+ * As a {@link MeterBinder} it publishes the Caffeine statistics of the rate cache under {@code cache.*} with
+ * {@code cache=exchangeRates}, its hit ratio, and the sizes of the last-known and unknown-pair caches.
+ */
+@Component
+public class ExchangeRateCache implements MeterBinder {
+
+    private final AsyncLoadingCache<String, ExchangeRate> cache;
+    private final Cache<String, ExchangeRate> lastKnownRates;
+    private final Cache<String, Boolean> unknownPairs;
+
+    @Autowired
+    public ExchangeRateCache(RateBatchDispatcher batchDispatcher, RateCacheProperties properties,
+                             @Qualifier("upstreamExecutor") Executor refreshExecutor) {
+        this(batchDispatcher, properties, Ticker.systemTicker(), refreshExecutor);
+    }
+
+    ExchangeRateCache(RateBatchDispatcher batchDispatcher, RateCacheProperties properties, Ticker ticker, Executor executor) {
+        if (properties.getRefreshAfter().compareTo(properties.getTtl()) >= 0) {
+            throw new IllegalArgumentException("currency.rate-cache.refresh-after must be shorter than currency.rate-cache.ttl");
+        }
+        this.lastKnownRates = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getStaleMaxAge())
+                .ticker(ticker)
+                .executor(executor)
+                .build();
+        this.unknownPairs = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getUnknownPairTtl())
+                .ticker(ticker)
+                .executor(executor)
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .buildAsync(pair -> remember(pair, fetchQuoted(batchDispatcher, pair)));
+    }
+
+    public ExchangeRate get(String pair) {
+        if (isUnknown(pair)) {
+            return null;
+        }
+        CompletableFuture<ExchangeRate> pending = cache.get(pair);
+        ExchangeRate stale = pending.isDone() ? null : lastKnownRate(pair);
+        if (stale != null) {
+            return stale;
+        }
+        try {
+            return RateFutures.join(pending);
+        } catch (RateSourceUnavailableException e) {
+            ExchangeRate fallback = lastKnownRate(pair);
+            if (fallback == null) {
+                throw e;
+            }
+            return fallback;
+        }
+    }
+
+    /**
+     * Non-blocking lookup: on a miss the entry is filled by {@code loader} instead of the blocking batch dispatcher.
+     * Concurrent callers for the same pair share the pending future, and a {@code null} result is not cached.
+     */
+    public CompletableFuture<ExchangeRate> getAsync(String pair, Function<String, CompletableFuture<ExchangeRate>> loader) {
+        if (isUnknown(pair)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<ExchangeRate> pending = cache.get(pair, (key, executor) -> loader.apply(key).thenApply(rate -> remember(key, rate)));
+        ExchangeRate stale = pending.isDone() ? null : lastKnownRate(pair);
+        if (stale != null) {
+            return CompletableFuture.completedFuture(stale);
+        }
+        return pending.exceptionallyCompose(error -> {
+            Throwable cause = RateFutures.unwrap(error);
+            ExchangeRate fallback = cause instanceof RateSourceUnavailableException ? lastKnownRate(pair) : null;
+            return fallback == null ? CompletableFuture.failedFuture(cause) : CompletableFuture.completedFuture(fallback);
+        });
+    }
+
+    private static ExchangeRate fetchQuoted(RateBatchDispatcher batchDispatcher, String pair) {
+        try {
+            return batchDispatcher.fetch(pair);
+        } catch (FeignException.NotFound e) {
+            return null;
+        }
+    }
+
+    private ExchangeRate remember(String pair, ExchangeRate rate) {
+        if (rate == null) {
+            unknownPairs.put(pair, Boolean.TRUE);
+        } else {
+            lastKnownRates.put(pair, rate);
+        }
+        return rate;
+    }
+
+    public boolean isUnknown(String pair) {
+        return unknownPairs.getIfPresent(pair) != null;
+    }
+
+    /**
+     * Records a pair found not to be quoted outside this cache, such as by the prefetcher's multi-pair calls.
+     */
+    public void markUnknown(String pair) {
+        unknownPairs.put(pair, Boolean.TRUE);
+    }
+
+    private ExchangeRate lastKnownRate(String pair) {
+        ExchangeRate rate = lastKnownRates.getIfPresent(pair);
+        return rate == null ? null : rate.toBuilder().stale(true).build();
+    }
+
+    public RateCacheStatsResponse stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return RateCacheStatsResponse.builder()
+                .size(cache.synchronous().estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "exchangeRates");
+        Gauge.builder("currency.rate.cache.hit.ratio", cache, rates -> rates.synchronous().stats().hitRate())
+                .description("Share of rate lookups answered from the cache")
+                .register(registry);
+        Gauge.builder("currency.rate.cache.last.known.size", lastKnownRates, Cache::estimatedSize)
+                .description("Pairs with a last known good rate kept for stale fallback")
+                .register(registry);
+        Gauge.builder("currency.rate.cache.unknown.pairs.size", unknownPairs, Cache::estimatedSize)
+                .description("Pairs remembered as not quoted by the AwesomeAPI")
+                .register(registry);
+    }
+
+    void cleanUp() {
+        cache.synchronous().cleanUp();
+    }
+}
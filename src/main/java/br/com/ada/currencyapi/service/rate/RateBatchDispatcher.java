@@ -0,0 +1,99 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RateBatchProperties;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Collects the distinct pairs requested within a short window (or until {@code maxPairs} are pending) and fetches
+ * them with a single comma-separated AwesomeAPI call, completing every waiting caller from the combined response.
+ * A pair that is already pending or being fetched is joined rather than requested again.
+ */
+@Component
+public class RateBatchDispatcher {
+
+    private final AwesomeApiRateSource rateSource;
+    private final RateBatchProperties properties;
+    private final ScheduledExecutorService timer;
+    private final Executor dispatchExecutor;
+    private final ConcurrentMap<String, CompletableFuture<ExchangeRate>> inFlight = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private List<String> openBatch = new ArrayList<>();
+
+    public RateBatchDispatcher(AwesomeApiRateSource rateSource, RateBatchProperties properties,
+                               @Qualifier("upstreamExecutor") Executor dispatchExecutor) {
+        this.rateSource = rateSource;
+        this.properties = properties;
+        this.dispatchExecutor = dispatchExecutor;
+        CustomizableThreadFactory timerThreadFactory = new CustomizableThreadFactory("rate-batch-timer-");
+        timerThreadFactory.setDaemon(true);
+        this.timer = Executors.newSingleThreadScheduledExecutor(timerThreadFactory);
+    }
+
+    public ExchangeRate fetch(String pair) {
+        if (!properties.isEnabled()) {
+            return rateSource.fetch(pair);
+        }
+        return RateFutures.join(submit(pair));
+    }
+
+    CompletableFuture<ExchangeRate> submit(String pair) {
+        CompletableFuture<ExchangeRate> call = new CompletableFuture<>();
+        CompletableFuture<ExchangeRate> existing = inFlight.putIfAbsent(pair, call);
+        if (existing != null) {
+            return existing;
+        }
+
+        List<String> fullBatch = null;
+        synchronized (lock) {
+            openBatch.add(pair);
+            if (openBatch.size() == 1) {
+                List<String> batch = openBatch;
+                timer.schedule(() -> flushIfOpen(batch), properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (openBatch.size() >= properties.getMaxPairs()) {
+                fullBatch = openBatch;
+                openBatch = new ArrayList<>();
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return call;
+    }
+
+    private void flushIfOpen(List<String> batch) {
+        synchronized (lock) {
+            if (openBatch != batch) {
+                return;
+            }
+            openBatch = new ArrayList<>();
+        }
+        dispatchExecutor.execute(() -> dispatch(batch));
+    }
+
+    private void dispatch(List<String> batch) {
+        Map<String, ExchangeRate> rates;
+        try {
+            rates = rateSource.fetchAll(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(pair -> inFlight.remove(pair).completeExceptionally(e));
+            return;
+        }
+        batch.forEach(pair -> inFlight.remove(pair).complete(rates.get(pair)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically fetches every catalog currency against the configured base currency, in chunked multi-pair calls,
+ * and publishes the result as a new {@link RateSnapshot}. Rates from chunks that fail are carried over from the
+ * previous snapshot so a partial upstream failure does not empty it; rates of codes that left the catalog are not.
+ * Pairs the AwesomeAPI does not quote share the unknown-pair memory of {@link ExchangeRateCache}: those already known
+ * are skipped, and those a chunk isolates are recorded there, so each tick does not split them out again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "currency.rate-prefetch", name = "enabled", havingValue = "true")
+public class RatePrefetcher implements SchedulingConfigurer {
+
+    private final CurrencyRepository currencyRepository;
+    private final AwesomeApiRateSource rateSource;
+    private final RateSnapshotHolder snapshotHolder;
+    private final RatePrefetchProperties properties;
+    private final ExchangeRateCache exchangeRateCache;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(this::refresh, properties.getInterval(), properties.getInitialDelay()));
+    }
+
+    public void refresh() {
+        String base = properties.getBaseCurrency();
+        List<String> pairs = currencyRepository.findAll().stream()
+                .map(Currency::getCode)
+                .filter(code -> !code.equalsIgnoreCase(base))
+                .distinct()
+                .map(code -> code + "-" + base)
+                .filter(pair -> !exchangeRateCache.isUnknown(pair))
+                .toList();
+
+        RateSnapshot previous = snapshotHolder.current();
+        Map<String, ExchangeRate> rates = new HashMap<>();
+        if (base.equals(previous.getBaseCurrency())) {
+            pairs.stream()
+                    .filter(previous.getRates()::containsKey)
+                    .forEach(pair -> rates.put(pair, previous.getRates().get(pair)));
+        }
+
+        int failedChunks = 0;
+        for (int from = 0; from < pairs.size(); from += properties.getChunkSize()) {
+            List<String> chunk = pairs.subList(from, Math.min(from + properties.getChunkSize(), pairs.size()));
+            try {
+                Map<String, ExchangeRate> fetched = rateSource.fetchAll(chunk);
+                rates.putAll(fetched);
+                chunk.stream()
+                        .filter(pair -> !fetched.containsKey(pair))
+                        .forEach(pair -> {
+                            exchangeRateCache.markUnknown(pair);
+                            rates.remove(pair);
+                        });
+            } catch (RuntimeException e) {
+                failedChunks++;
+                log.warn("Rate prefetch failed for {} pairs starting at {}: {}", chunk.size(), chunk.get(0), e.getMessage());
+            }
+        }
+
+        snapshotHolder.publish(new RateSnapshot(base, rates, Instant.now()));
+        log.debug("Published rate snapshot with {} pairs against {} ({} failed chunks)", rates.size(), base, failedChunks);
+    }
+}
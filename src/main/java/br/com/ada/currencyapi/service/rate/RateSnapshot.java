@@ -0,0 +1,34 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Immutable set of {@code CODE-BASE} rates published by {@link RatePrefetcher}.
+ */
+@Getter
+public final class RateSnapshot {
+
+    public static final RateSnapshot EMPTY = new RateSnapshot(null, Map.of(), Instant.EPOCH);
+
+    private final String baseCurrency;
+    private final Map<String, ExchangeRate> rates;
+    private final Instant publishedAt;
+
+    public RateSnapshot(String baseCurrency, Map<String, ExchangeRate> rates, Instant publishedAt) {
+        this.baseCurrency = baseCurrency;
+        this.rates = Map.copyOf(rates);
+        this.publishedAt = publishedAt;
+    }
+
+    public ExchangeRate get(String pair) {
+        return rates.get(pair);
+    }
+
+    public int size() {
+        return rates.size();
+    }
+}
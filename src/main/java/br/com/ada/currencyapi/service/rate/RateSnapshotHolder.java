@@ -0,0 +1,32 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class RateSnapshotHolder {
+
+    private final RatePrefetchProperties properties;
+    private volatile RateSnapshot current = RateSnapshot.EMPTY;
+
+    public RateSnapshot current() {
+        return current;
+    }
+
+    public void publish(RateSnapshot snapshot) {
+        current = snapshot;
+    }
+
+    public ExchangeRate findFresh(String pair) {
+        ExchangeRate rate = current.get(pair);
+        if (rate == null || rate.getFetchedAt().plus(properties.getMaxAge()).isBefore(Instant.now())) {
+            return null;
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import br.com.ada.currencyapi.repository.feign.AwesomeApiQuoteParser;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * Non-blocking counterpart of {@link AwesomeApiRateSource}: the quote is read on the WebClient event loop, guarded by
+ * the same circuit breaker, and an unknown pair completes empty instead of throwing.
+ */
+@Component
+public class ReactiveAwesomeApiRateSource {
+
+    private static final String UPSTREAM_UNAVAILABLE = "Exchange rate service unavailable for %s";
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final AwesomeApiQuoteParser quoteParser;
+
+    public ReactiveAwesomeApiRateSource(WebClient.Builder webClientBuilder,
+                                        @Value("${currency.awesome-api.url:https://economia.awesomeapi.com.br/json}") String baseUrl,
+                                        CircuitBreaker circuitBreaker, AwesomeApiQuoteParser quoteParser,
+                                        CurrencyMetrics currencyMetrics) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).filter(timed(currencyMetrics)).build();
+        this.circuitBreaker = circuitBreaker;
+        this.quoteParser = quoteParser;
+    }
+
+    public Mono<ExchangeRate> fetch(String pair) {
+        return webClient.get()
+                .uri("/last/{pair}", pair)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .flatMap(body -> Mono.fromCallable(() -> quoteParser.parse(body)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .mapNotNull(response -> AwesomeApiRateSource.rateFor(pair, response))
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof WebClientException || e instanceof IOException,
+                        e -> new RateSourceUnavailableException(String.format(UPSTREAM_UNAVAILABLE, pair), e));
+    }
+
+    private static ExchangeFilterFunction timed(CurrencyMetrics currencyMetrics) {
+        return (request, next) -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> currencyMetrics.recordUpstream("webclient",
+                            CurrencyMetrics.upstreamOutcome(response.statusCode().value()), System.nanoTime() - start))
+                    .doOnError(e -> currencyMetrics.recordUpstream("webclient", CurrencyMetrics.ERROR, System.nanoTime() - start));
+        });
+    }
+}
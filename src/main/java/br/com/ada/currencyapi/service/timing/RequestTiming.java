@@ -0,0 +1,113 @@
+package br.com.ada.currencyapi.service.timing;
+
+/**
+ * Per-request latency breakdown bound to the handling thread. Code on the request path brackets a phase with
+ * {@link #mark()} and {@link #record(TimingPhase, long)}; both are a single thread-local read when no timing is
+ * active, so services can report unconditionally. Work handed to other threads (batched AwesomeAPI calls, stream
+ * lines) is not attributed beyond the time the request thread spends waiting for it.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final TimingPhase[] PHASES = TimingPhase.values();
+
+    private final long startNanos;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final int[] phaseCounts = new int[PHASES.length];
+
+    private RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts a timing for the current thread; the caller must {@link #stop()} it once the request is done.
+     */
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * @return a start mark for {@link #record(TimingPhase, long)}, or {@code 0} when the thread is not being timed
+     */
+    public static long mark() {
+        return CURRENT.get() == null ? 0L : System.nanoTime();
+    }
+
+    public static void record(TimingPhase phase, long mark) {
+        if (mark == 0L) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - mark);
+        }
+    }
+
+    void add(TimingPhase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+        phaseCounts[phase.ordinal()]++;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long nanos(TimingPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public int count(TimingPhase phase) {
+        return phaseCounts[phase.ordinal()];
+    }
+
+    /**
+     * Renders the recorded phases as {@code Server-Timing} metrics in milliseconds, followed by {@code app} for the
+     * time since {@link #start()}. Phases that never ran are left out.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(96);
+        for (TimingPhase phase : PHASES) {
+            int count = phaseCounts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            appendMetric(header, phase.metricName(), phaseNanos[phase.ordinal()]);
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append(" calls\"");
+            }
+            header.append(", ");
+        }
+        appendMetric(header, "app", elapsedNanos());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        header.append(name).append(";dur=");
+        appendMillis(header, nanos);
+    }
+
+    /**
+     * Milliseconds with microsecond precision, formatted without {@code String.format} to keep the per-request cost
+     * down.
+     */
+    public static void appendMillis(StringBuilder target, long nanos) {
+        long micros = Math.max(0L, nanos) / 1_000;
+        long fraction = micros % 1_000;
+        target.append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            target.append('0');
+        }
+        if (fraction < 10) {
+            target.append('0');
+        }
+        target.append(fraction);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.ada.currencyapi.service.timing;
+
+/**
+ * Phases a request can report into its {@link RequestTiming}, named as they appear in the {@code Server-Timing}
+ * header. Phases may nest: {@link #RATE} includes any {@link #UPSTREAM} call made on the request thread.
+ */
+public enum TimingPhase {
+    VALIDATE("validate"),
+    CATALOG("catalog"),
+    RATE("rate"),
+    UPSTREAM("upstream"),
+    MATH("math");
+
+    private final String metricName;
+
+    TimingPhase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
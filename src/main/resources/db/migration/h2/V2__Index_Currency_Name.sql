@@ -0,0 +1,3 @@
+ALTER TABLE currency ADD COLUMN normalized_name VARCHAR(255) GENERATED ALWAYS AS (LOWER(TRIM(name)));
+
+CREATE INDEX idx_currency_normalized_name ON currency (normalized_name);
@@ -0,0 +1,9 @@
+-- Ids come from a sequence so Hibernate can pre-allocate them in blocks of 50 and batch inserts; IDENTITY forces one
+-- round trip per row. The column default keeps plain SQL inserts on the same sequence.
+CREATE SEQUENCE currency_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE currency_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM currency);
+
+ALTER TABLE currency ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE currency ALTER COLUMN id SET DEFAULT NEXT VALUE FOR currency_seq;
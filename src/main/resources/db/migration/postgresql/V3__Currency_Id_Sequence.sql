@@ -0,0 +1,11 @@
+-- Ids come from a sequence so Hibernate can pre-allocate them in blocks of 50 and batch inserts. The column default
+-- moves from the SERIAL sequence to this one, so plain SQL inserts stay on the same sequence.
+CREATE SEQUENCE currency_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('currency_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM currency), false);
+
+ALTER TABLE currency ALTER COLUMN id SET DEFAULT nextval('currency_seq');
+
+ALTER SEQUENCE currency_seq OWNED BY currency.id;
+
+DROP SEQUENCE currency_id_seq;
@@ -3,7 +3,7 @@ package br.com.ada.currencyapi;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "currency.rate-prefetch.enabled=false")
 class CurrencyApiApplicationTests {
 
     @Test
@@ -0,0 +1,95 @@
+package br.com.ada.currencyapi.benchmark;
+
+import br.com.ada.currencyapi.CurrencyApiApplication;
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import br.com.ada.currencyapi.support.StubAwesomeApiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara o modo de threads de plataforma com o modo de threads virtuais sob chamadas lentas à AwesomeAPI.
+ * Executado apenas com o perfil Maven "benchmark" ({@code mvn test -Pbenchmark}).
+ */
+@Tag("benchmark")
+class VirtualThreadsBenchmarkTest {
+
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+    private static final int TOMCAT_MAX_THREADS = 50;
+    private static final int CONCURRENT_REQUESTS = 400;
+
+    /**
+     * Arrange: Sobe o servidor stub com 200ms de latência e a aplicação nos dois modos, com o pool do Tomcat limitado
+     * a 50 threads e sem agrupamento ou pré-carga de cotações, para que cada conversão de um par distinto chegue ao stub.
+     * Act: Dispara 400 conversões simultâneas em cada modo.
+     * Assert: Verifica se todas as conversões tiveram sucesso e se o modo virtual sustentou mais chamadas simultâneas
+     * à AwesomeAPI do que o limite imposto pelo pool de threads de plataforma.
+     */
+
+    @Test
+    void compareConcurrencyCeiling() throws Exception {
+        try (StubAwesomeApiServer stub = new StubAwesomeApiServer(UPSTREAM_LATENCY)) {
+            Result platform = run(stub, false);
+            Result virtual = run(stub, true);
+
+            assertThat(platform.failures()).isZero();
+            assertThat(virtual.failures()).isZero();
+            assertThat(platform.maxInFlight()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+            assertThat(virtual.maxInFlight()).isGreaterThan(platform.maxInFlight());
+        }
+    }
+
+    private Result run(StubAwesomeApiServer stub, boolean virtualThreads) throws Exception {
+        stub.reset();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CurrencyApiApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + virtualThreads,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                "--currency.rate-batch.enabled=false",
+                "--currency.rate-prefetch.enabled=false",
+                "--currency.awesome-api.url=" + stub.baseUrl());
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            List<String> codes = context.getBean(CurrencyRepository.class).findAll().stream().map(Currency::getCode).toList();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build();
+
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                String from = codes.get(i % codes.size());
+                String to = codes.get((i / codes.size() + i + 1) % codes.size());
+                String body = "{\"from\":\"" + from + "\",\"to\":\"" + to + "\",\"amount\":10}";
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/currency/convert"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            long failures = responses.stream().filter(response -> response.join().statusCode() != 200).count();
+            return new Result(stub.maxInFlight(), stub.requestCount(), failures, elapsed);
+        }
+    }
+
+    private record Result(int maxInFlight, long upstreamCalls, long failures, Duration elapsed) {
+    }
+}
@@ -6,6 +6,8 @@ import br.com.ada.currencyapi.domain.CurrencyRequest;
 import br.com.ada.currencyapi.domain.CurrencyResponse;
 import br.com.ada.currencyapi.repository.CurrencyRepository;
 import br.com.ada.currencyapi.service.CurrencyService;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalogView;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,7 +30,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, properties = "currency.rate-prefetch.enabled=false")
 @AutoConfigureMockMvc
 @ExtendWith(SpringExtension.class)
 public class CurrencyControllerIntegrationTest {
@@ -42,6 +44,9 @@ public class CurrencyControllerIntegrationTest {
     @Autowired
     private CurrencyRepository currencyRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @BeforeEach
     void setup() {
         currencyRepository.deleteAll();
@@ -49,7 +54,7 @@ public class CurrencyControllerIntegrationTest {
 
     /**
      * Arrange: Cria um objeto CurrencyResponse com o rótulo "USD - Dólar Americano" e o coloca em uma lista.
-     * Mock: Configura o mock currencyService para retornar essa lista quando o método get() for chamado.
+     * Mock: Configura o mock currencyService para retornar essa lista, já serializada, quando o método getCatalog() for chamado.
      * Act: Faz uma requisição GET para o endpoint /currency usando o MockMvc.
      * Assert: Verifica se a resposta tem o status HTTP 200 (OK) e se o JSON retornado contém um objeto com o rótulo "USD - Dólar Americano".
      */
@@ -59,7 +64,8 @@ public class CurrencyControllerIntegrationTest {
         CurrencyResponse response1 = CurrencyResponse.builder().label("USD - Dólar Americano").build();
         List<CurrencyResponse> responses = Collections.singletonList(response1);
 
-        Mockito.when(currencyService.get()).thenReturn(responses);
+        Mockito.when(currencyService.getCatalog())
+                .thenReturn(CurrencyCatalogView.of(List.of(), responses, objectMapper.writeValueAsBytes(responses)));
 
         mockMvc.perform(get("/currency"))
                 .andExpect(status().isOk())
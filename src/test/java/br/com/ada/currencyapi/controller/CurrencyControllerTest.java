@@ -1,18 +1,37 @@
 package br.com.ada.currencyapi.controller;
 
+import br.com.ada.currencyapi.config.CatalogProperties;
+import br.com.ada.currencyapi.domain.BatchConvertItemResponse;
+import br.com.ada.currencyapi.domain.CurrencyItemResponse;
+import br.com.ada.currencyapi.domain.CurrencyPageResponse;
 import br.com.ada.currencyapi.domain.CurrencyRequest;
+import br.com.ada.currencyapi.domain.CurrencyUpsertItemResponse;
 import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import br.com.ada.currencyapi.domain.RateType;
+import br.com.ada.currencyapi.domain.UpsertStatus;
+import br.com.ada.currencyapi.exception.CurrencyException;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import br.com.ada.currencyapi.service.CurrencyBatchService;
 import br.com.ada.currencyapi.service.CurrencyService;
+import br.com.ada.currencyapi.service.CurrencyStreamService;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalogView;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
 
+import static org.hamcrest.Matchers.matchesRegex;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -20,8 +39,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 // Ideal para testar controladores Spring Boot isoladamente.
 // @Autowired - Injeta a instância do MockMvc que simula requisições HTTP.
 // @MockBean - Cria um mock do CurrencyService para ser usado no teste.
+// @EnableConfigurationProperties - Registra o CatalogProperties, que o fatiamento do @WebMvcTest não escaneia.
 
 @WebMvcTest(CurrencyController.class)
+@EnableConfigurationProperties(CatalogProperties.class)
 public class CurrencyControllerTest {
 
     @Autowired
@@ -30,6 +51,12 @@ public class CurrencyControllerTest {
     @MockBean
     private CurrencyService currencyService;
 
+    @MockBean
+    private CurrencyBatchService currencyBatchService;
+
+    @MockBean
+    private CurrencyStreamService currencyStreamService;
+
     /**
      * Mockar o método get() do currencyService para retornar uma lista vazia.
      * Fazer uma requisição GET para o endpoint /currency.
@@ -39,7 +66,7 @@ public class CurrencyControllerTest {
 
     @Test
     void testGet() throws Exception {
-        Mockito.when(currencyService.get()).thenReturn(Collections.emptyList());
+        Mockito.when(currencyService.getCatalog()).thenReturn(emptyCatalog());
 
         // andExpect(jsonPath("$").isArray()): Verifica se o corpo da resposta JSON é um array.
         // andExpect(status().isOk()): Verifica se o status da resposta HTTP é 200 OK.
@@ -48,6 +75,112 @@ public class CurrencyControllerTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    /**
+     * Mockar o método getCatalog() do currencyService para retornar um catálogo vazio.
+     * Fazer uma requisição GET para o endpoint /currency.
+     * Verificar se a resposta traz o ETag do catálogo e o Cache-Control com o max-age configurado.
+     */
+
+    @Test
+    void testGetReturnsEtagAndCacheControl() throws Exception {
+        CurrencyCatalogView catalog = emptyCatalog();
+        Mockito.when(currencyService.getCatalog()).thenReturn(catalog);
+
+        mockMvc.perform(get("/currency"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", catalog.getEtag()))
+                .andExpect(header().string("Cache-Control", "max-age=30"));
+    }
+
+    /**
+     * Mockar o método getCatalog() do currencyService para retornar um catálogo vazio.
+     * Fazer uma requisição GET para o endpoint /currency/list com o If-None-Match igual ao ETag do catálogo.
+     * Verificar se o status da resposta é 304 (Not Modified) e se o corpo vem vazio.
+     */
+
+    @Test
+    void testGetReturnsNotModifiedWhenEtagMatches() throws Exception {
+        CurrencyCatalogView catalog = emptyCatalog();
+        Mockito.when(currencyService.getCatalog()).thenReturn(catalog);
+
+        mockMvc.perform(get("/currency/list").header("If-None-Match", catalog.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", catalog.getEtag()))
+                .andExpect(content().string(""));
+    }
+
+    /**
+     * Mockar o método getCatalog() do currencyService para retornar um catálogo vazio.
+     * Fazer uma requisição GET para o endpoint /currency com um If-None-Match desatualizado.
+     * Verificar se o status da resposta é 200 (OK) e se o catálogo é enviado novamente.
+     */
+
+    @Test
+    void testGetReturnsCatalogWhenEtagIsOutdated() throws Exception {
+        Mockito.when(currencyService.getCatalog()).thenReturn(emptyCatalog());
+
+        mockMvc.perform(get("/currency").header("If-None-Match", "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    /**
+     * Mockar o método getPage() do currencyService para retornar uma página com uma moeda e o cursor seguinte.
+     * Fazer uma requisição GET para o endpoint /currency/page com cursor, tamanho e filtros.
+     * Verificar se os parâmetros são repassados ao serviço e se a resposta traz os itens e o nextCursor.
+     */
+
+    @Test
+    void testPage() throws Exception {
+        Mockito.when(currencyService.getPage("BRL", 1, "U", "dólar")).thenReturn(CurrencyPageResponse.builder()
+                .items(List.of(CurrencyItemResponse.builder().id(2L).code("USD").name("Dólar Americano").build()))
+                .size(1)
+                .nextCursor("USD")
+                .build());
+
+        mockMvc.perform(get("/currency/page").param("after", "BRL").param("size", "1").param("code", "U").param("name", "dólar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].code").value("USD"))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("USD"));
+    }
+
+    /**
+     * Mockar o método getPage() do currencyService para rejeitar o tamanho de página.
+     * Fazer uma requisição GET para o endpoint /currency/page com um tamanho acima do limite.
+     * Verificar se o status da resposta é 400 (Bad Request).
+     */
+
+    @Test
+    void testPageRejectsInvalidSize() throws Exception {
+        Mockito.when(currencyService.getPage(null, 1000, null, null))
+                .thenThrow(new CurrencyException("Invalid page size: must be between 1 and 500"));
+
+        mockMvc.perform(get("/currency/page").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Mockar o método search() do currencyService para retornar uma moeda.
+     * Fazer uma requisição GET para o endpoint /currency/search com o texto e o limite.
+     * Verificar se os parâmetros são repassados ao serviço e se a resposta traz a moeda encontrada.
+     */
+
+    @Test
+    void testSearch() throws Exception {
+        Mockito.when(currencyService.search("dolar aus", 5)).thenReturn(List.of(
+                CurrencyItemResponse.builder().id(8L).code("AUD").name("Dólar Australiano").build()));
+
+        mockMvc.perform(get("/currency/search").param("q", "dolar aus").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].code").value("AUD"))
+                .andExpect(jsonPath("$[0].name").value("Dólar Australiano"));
+    }
+
+    private static CurrencyCatalogView emptyCatalog() {
+        return CurrencyCatalogView.of(List.of(), List.of(), "[]".getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Criar uma instância de ConvertCurrencyRequest e configurar os valores.
      * Fazer uma requisição POST para o endpoint /currency/convert com o corpo JSON especificado.
@@ -60,11 +193,105 @@ public class CurrencyControllerTest {
         request.setFrom("USD");
         request.setTo("BRL");
         request.setAmount(BigDecimal.valueOf(100));
+        Mockito.when(currencyService.convert(Mockito.any())).thenReturn(ConvertCurrencyResponse.builder()
+                .amount(BigDecimal.valueOf(500))
+                .rateType(RateType.DIRECT)
+                .rateFetchedAt(Instant.now())
+                .build());
 
         mockMvc.perform(post("/currency/convert")
                         .contentType("application/json")
                         .content("{\"from\": \"USD\", \"to\": \"BRL\", \"amount\": 100}"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Rate-Age"))
+                .andExpect(header().doesNotExist("Warning"));
+    }
+
+    /**
+     * Mockar o método convert() do currencyService para retornar uma conversão feita com a última taxa conhecida,
+     * obtida há dois minutos.
+     * Fazer uma requisição POST para o endpoint /currency/convert.
+     * Verificar se a resposta informa a idade da taxa em X-Rate-Age e traz o cabeçalho Warning de resposta obsoleta.
+     */
+
+    @Test
+    void testConvertReportsStaleRate() throws Exception {
+        Mockito.when(currencyService.convert(Mockito.any())).thenReturn(ConvertCurrencyResponse.builder()
+                .amount(BigDecimal.valueOf(500))
+                .rateType(RateType.DIRECT)
+                .rateFetchedAt(Instant.now().minusSeconds(120))
+                .staleRate(true)
+                .build());
+
+        mockMvc.perform(post("/currency/convert")
+                        .contentType("application/json")
+                        .content("{\"from\": \"USD\", \"to\": \"BRL\", \"amount\": 100}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Rate-Age", matchesRegex("12\\d")))
+                .andExpect(header().string("Warning", "110 - \"Response is Stale\""))
+                .andExpect(jsonPath("$.rateFetchedAt").doesNotExist());
+    }
+
+    /**
+     * Mockar o método convert() do currencyService para lançar RateSourceUnavailableException.
+     * Fazer uma requisição POST para o endpoint /currency/convert.
+     * Verificar se o status da resposta é 503 (Service Unavailable).
+     */
+
+    @Test
+    void testConvertWhenRateSourceIsUnavailable() throws Exception {
+        Mockito.when(currencyService.convert(Mockito.any()))
+                .thenThrow(new RateSourceUnavailableException("Exchange rate service unavailable for USD-BRL", null));
+
+        mockMvc.perform(post("/currency/convert")
+                        .contentType("application/json")
+                        .content("{\"from\": \"USD\", \"to\": \"BRL\", \"amount\": 100}"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    /**
+     * Mockar o método convert() do currencyBatchService para retornar um resultado por item.
+     * Fazer uma requisição POST para o endpoint /currency/convert/batch com uma lista de conversões.
+     * Verificar se o status da resposta é 200 (OK) e se os resultados vêm na mesma ordem.
+     */
+
+    @Test
+    void testConvertBatch() throws Exception {
+        Mockito.when(currencyBatchService.convert(Mockito.anyList())).thenReturn(List.of(
+                BatchConvertItemResponse.builder().amount(BigDecimal.valueOf(500)).build(),
+                BatchConvertItemResponse.builder().error("Invalid ConvertCurrencyRequest").build()));
+
+        mockMvc.perform(post("/currency/convert/batch")
+                        .contentType("application/json")
+                        .content("[{\"from\": \"USD\", \"to\": \"BRL\", \"amount\": 100}, {\"from\": \"USD\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].amount").value(500))
+                .andExpect(jsonPath("$[1].error").value("Invalid ConvertCurrencyRequest"));
+    }
+
+    /**
+     * Mockar o método convert() do currencyStreamService para escrever uma linha de resultado.
+     * Fazer uma requisição POST para o endpoint /currency/convert/stream com um corpo NDJSON.
+     * Verificar se a resposta assíncrona tem status 200 (OK), o mesmo tipo de conteúdo e o conteúdo escrito pelo serviço.
+     */
+
+    @Test
+    void testConvertStream() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"line\":1,\"amount\":500}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(currencyStreamService).convert(Mockito.any(), Mockito.any(), Mockito.eq(CurrencyStreamService.Format.NDJSON));
+
+        MvcResult result = mockMvc.perform(post("/currency/convert/stream")
+                        .contentType("application/x-ndjson")
+                        .content("{\"from\": \"USD\", \"to\": \"BRL\", \"amount\": 100}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"line\":1,\"amount\":500}\n"));
     }
 
     /**
@@ -104,6 +331,28 @@ public class CurrencyControllerTest {
                 .andExpect(status().isOk());
     }
 
+    /**
+     * Configurar o mock do serviço para devolver o relatório de uma moeda criada e de uma em conflito.
+     * Fazer uma requisição POST para o endpoint /currency/bulk com a lista de moedas.
+     * Verificar se o status da resposta é 200 (OK) e se cada moeda aparece no relatório com o seu status.
+     */
+
+    @Test
+    void testUpsert() throws Exception {
+        Mockito.when(currencyService.upsert(Mockito.anyList())).thenReturn(List.of(
+                CurrencyUpsertItemResponse.builder().code("ZZA").id(200L).status(UpsertStatus.CREATED).build(),
+                CurrencyUpsertItemResponse.builder().code("ZZB").status(UpsertStatus.CONFLICT).error("Coin already exists").build()));
+
+        mockMvc.perform(post("/currency/bulk")
+                        .contentType("application/json")
+                        .content("[{\"name\": \"Moeda A\", \"code\": \"ZZA\"}, {\"name\": \"Euro\", \"code\": \"ZZB\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").value(200))
+                .andExpect(jsonPath("$[1].status").value("CONFLICT"))
+                .andExpect(jsonPath("$[1].error").value("Coin already exists"));
+    }
+
     /**
      * Fazer uma requisição DELETE para o endpoint /currency/1.
      * Verificar se o status da resposta é 200 (OK).
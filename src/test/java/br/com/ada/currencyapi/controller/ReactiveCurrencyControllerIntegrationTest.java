@@ -0,0 +1,103 @@
+package br.com.ada.currencyapi.controller;
+
+import br.com.ada.currencyapi.support.StubAwesomeApiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe a aplicação com o perfil "reactive" (WebFlux) apontando para o servidor stub da AwesomeAPI. O tipo da aplicação
+ * é repetido nas propriedades porque o SpringBootTest o decide antes de carregar os arquivos do perfil.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+class ReactiveCurrencyControllerIntegrationTest {
+
+    private static final StubAwesomeApiServer STUB = startStub();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private static StubAwesomeApiServer startStub() {
+        try {
+            StubAwesomeApiServer stub = new StubAwesomeApiServer(Duration.ZERO);
+            stub.unknownPair("USD-XYZ");
+            stub.unknownPair("XYZ-BRL");
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void awesomeApiProperties(DynamicPropertyRegistry registry) {
+        registry.add("currency.awesome-api.url", STUB::baseUrl);
+        registry.add("currency.rate-prefetch.enabled", () -> "false");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    /**
+     * Act: Envia uma conversão de 10 USD para EUR ao endpoint /currency/convert servido pelo WebFlux.
+     * Assert: Verifica se a resposta tem status 200 e o valor convertido pela cotação do stub (1.2).
+     */
+
+    @Test
+    void testConvert() {
+        webTestClient.post().uri("/currency/convert")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"from\":\"USD\",\"to\":\"EUR\",\"amount\":10}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.amount").isEqualTo(12.0)
+                .jsonPath("$.rateType").isEqualTo("DIRECT");
+    }
+
+    /**
+     * Act: Envia uma conversão para uma moeda que não está no catálogo local.
+     * Assert: Verifica se o tratador de exceções reativo responde 404 com a mensagem do CoinNotFoundException
+     * e se a AwesomeAPI (stub) não foi consultada.
+     */
+
+    @Test
+    void testConvertUnknownPair() {
+        STUB.reset();
+        webTestClient.post().uri("/currency/convert")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"from\":\"USD\",\"to\":\"XYZ\",\"amount\":10}")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("Exchange rate not found for XYZ to USD");
+        assertThat(STUB.requestCount()).isZero();
+    }
+
+    /**
+     * Act: Envia uma conversão sem valor.
+     * Assert: Verifica se a resposta tem status 400.
+     */
+
+    @Test
+    void testConvertInvalidRequest() {
+        webTestClient.post().uri("/currency/convert")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"from\":\"USD\",\"to\":\"EUR\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
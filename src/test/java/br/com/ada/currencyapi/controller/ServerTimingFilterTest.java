@@ -0,0 +1,105 @@
+package br.com.ada.currencyapi.controller;
+
+import br.com.ada.currencyapi.config.ServerTimingProperties;
+import br.com.ada.currencyapi.service.timing.RequestTiming;
+import br.com.ada.currencyapi.service.timing.TimingPhase;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private ServerTimingProperties properties;
+
+    private ServerTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ServerTimingProperties();
+        properties.setLogSampleRate(1.0);
+        filter = new ServerTimingFilter(properties);
+    }
+
+    /**
+     * Arrange: Monta uma cadeia que registra a fase de catálogo e escreve o corpo da resposta.
+     * Act: Executa o filtro para POST /currency/convert.
+     * Assert: Verifica se o cabeçalho Server-Timing traz a fase registrada e o tempo total "app", e se o corpo foi
+     * escrito normalmente.
+     */
+
+    @Test
+    void testServerTimingHeaderIsAddedBeforeTheBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/currency/convert");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            RequestTiming.record(TimingPhase.CATALOG, RequestTiming.mark());
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+        });
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).matches("catalog;dur=\\d+\\.\\d{3}, app;dur=\\d+\\.\\d{3}");
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+    }
+
+    /**
+     * Act: Executa o filtro para um DELETE que responde sem corpo.
+     * Assert: Verifica se o cabeçalho Server-Timing é adicionado mesmo assim, apenas com "app".
+     */
+
+    @Test
+    void testServerTimingHeaderIsAddedWithoutBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/currency/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).startsWith("app;dur=");
+    }
+
+    /**
+     * Arrange: Mantém a exclusão padrão do endpoint de streaming.
+     * Act: Executa o filtro para POST /currency/convert/stream.
+     * Assert: Verifica se nenhuma medição fica ativa na thread durante a cadeia e se o cabeçalho não é enviado.
+     */
+
+    @Test
+    void testExcludedPathsAreNotTimed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/currency/convert/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicLong markInChain = new AtomicLong(-1);
+
+        filter.doFilter(request, response, (req, res) -> markInChain.set(RequestTiming.mark()));
+
+        assertThat(markInChain).hasValue(0);
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+    }
+
+    /**
+     * Act: Executa o filtro para uma requisição cuja cadeia lança exceção.
+     * Assert: Verifica se a medição é removida da thread mesmo com a falha.
+     */
+
+    @Test
+    void testTimingIsUnboundAfterFailure() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/currency");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilter(request, response, (req, res) -> {
+                throw new IllegalStateException("boom");
+            });
+        } catch (Exception ignored) {
+            // a falha é propagada; o que interessa é o estado da thread
+        }
+
+        assertThat(RequestTiming.mark()).isZero();
+    }
+}
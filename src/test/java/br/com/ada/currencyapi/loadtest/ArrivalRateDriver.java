@@ -0,0 +1,148 @@
+package br.com.ada.currencyapi.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gera carga em malha aberta: as chegadas são disparadas em intervalos fixos, sem esperar as respostas anteriores, e a
+ * latência da primeira requisição de cada chegada é medida a partir do instante planejado. Assim uma resposta lenta não
+ * adia as próximas chegadas nem esconde o tempo que elas passariam na fila (coordinated omission).
+ */
+class ArrivalRateDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * Uma chegada do cenário. Pode encadear várias requisições; cada uma é registrada no {@link Recorder}.
+     */
+    @FunctionalInterface
+    interface Arrival {
+        CompletableFuture<?> fire(long index, long intendedNanos, Recorder recorder);
+    }
+
+    private final HttpClient client;
+
+    ArrivalRateDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    ScenarioResult run(String name, int ratePerSecond, Duration duration, Arrival arrival) {
+        Recorder recorder = new Recorder();
+        long arrivals = ratePerSecond * duration.toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        List<CompletableFuture<?>> pending = new ArrayList<>((int) arrivals);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < arrivals; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            pending.add(arrival.fire(i, intended, recorder));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .orTimeout(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)
+                .exceptionally(e -> null)
+                .join();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        return new ScenarioResult(name, ratePerSecond, arrivals, elapsedSeconds, recorder.summarize(elapsedSeconds));
+    }
+
+    /**
+     * Envia a requisição e registra status e latência medida desde {@code intendedNanos}. Falhas de transporte são
+     * registradas e completam o futuro com {@code null}.
+     */
+    CompletableFuture<HttpResponse<String>> send(Recorder recorder, String endpoint, HttpRequest request, long intendedNanos) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    recorder.record(endpoint, failure == null ? response.statusCode() : Recorder.TRANSPORT_ERROR,
+                            System.nanoTime() - intendedNanos);
+                    return failure == null ? response : null;
+                });
+    }
+
+    static class Recorder {
+
+        static final int TRANSPORT_ERROR = -1;
+
+        private final Map<String, EndpointSamples> endpoints = new ConcurrentHashMap<>();
+
+        void record(String endpoint, int status, long latencyNanos) {
+            endpoints.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(status, latencyNanos);
+        }
+
+        List<EndpointResult> summarize(double elapsedSeconds) {
+            return new TreeMap<>(endpoints).entrySet().stream()
+                    .map(entry -> entry.getValue().summarize(entry.getKey(), elapsedSeconds))
+                    .toList();
+        }
+    }
+
+    private static class EndpointSamples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private final Map<String, Long> statusCounts = new TreeMap<>();
+
+        synchronized void add(int status, long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            statusCounts.merge(status == Recorder.TRANSPORT_ERROR ? "transport" : String.valueOf(status), 1L, Long::sum);
+        }
+
+        synchronized EndpointResult summarize(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            long errors = statusCounts.entrySet().stream()
+                    .filter(entry -> !entry.getKey().startsWith("2"))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            percentiles.put("p50", percentile(sorted, 0.50));
+            percentiles.put("p90", percentile(sorted, 0.90));
+            percentiles.put("p99", percentile(sorted, 0.99));
+            percentiles.put("p999", percentile(sorted, 0.999));
+            percentiles.put("max", size == 0 ? 0 : sorted[size - 1] / 1e6);
+            return new EndpointResult(endpoint, size, size / elapsedSeconds, errors, new TreeMap<>(statusCounts), percentiles);
+        }
+
+        /**
+         * Percentil pelo método do posto mais próximo, em milissegundos.
+         */
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+
+    record EndpointResult(String endpoint, long requests, double throughputPerSecond, long errors,
+                          Map<String, Long> statusCounts, Map<String, Double> latencyMillis) {
+    }
+
+    record ScenarioResult(String name, int targetRatePerSecond, long arrivals, double elapsedSeconds,
+                          List<EndpointResult> endpoints) {
+
+        EndpointResult endpoint(String endpoint) {
+            return endpoints.stream().filter(result -> result.endpoint().equals(endpoint)).findFirst().orElseThrow();
+        }
+    }
+}
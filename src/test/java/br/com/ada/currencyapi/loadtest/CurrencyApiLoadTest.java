@@ -0,0 +1,158 @@
+package br.com.ada.currencyapi.loadtest;
+
+import br.com.ada.currencyapi.CurrencyApiApplication;
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import br.com.ada.currencyapi.support.LatencyDistribution;
+import br.com.ada.currencyapi.support.StubAwesomeApiServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga de ponta a ponta: sobe a aplicação com o AwesomeAPIClient apontado para o
+ * {@link StubAwesomeApiServer} e gera carga em taxa de chegada fixa sobre {@code /currency/convert}, {@code /currency}
+ * e os endpoints de CRUD, gravando vazão, percentis de latência e contagem de erros em JSON.
+ * Executado apenas com o perfil Maven "loadtest" ({@code mvn test -Ploadtest}). Parâmetros por propriedade de sistema:
+ * {@code loadtest.warmup} e {@code loadtest.duration} (segundos por cenário), {@code loadtest.convert-rate}, {@code loadtest.catalog-rate}, {@code loadtest.crud-rate},
+ * {@code loadtest.latency} (ver {@link LatencyDistribution#parse}), {@code loadtest.error-rate},
+ * {@code loadtest.pair-coverage} e {@code loadtest.output}.
+ */
+@Tag("loadtest")
+class CurrencyApiLoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup", 3));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration", 10));
+    private static final int CONVERT_RATE = Integer.getInteger("loadtest.convert-rate", 50);
+    private static final int CATALOG_RATE = Integer.getInteger("loadtest.catalog-rate", 100);
+    private static final int CRUD_RATE = Integer.getInteger("loadtest.crud-rate", 10);
+    private static final String LATENCY = System.getProperty("loadtest.latency", "lognormal:30ms,0.5");
+    private static final double ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.error-rate", "0.01"));
+    private static final double PAIR_COVERAGE = Double.parseDouble(System.getProperty("loadtest.pair-coverage", "0.95"));
+    private static final Path OUTPUT = Path.of(System.getProperty("loadtest.output", "target/loadtest/result.json"));
+
+    private static final String CONVERT = "POST /currency/convert";
+    private static final String CATALOG = "GET /currency";
+    private static final String CREATE = "POST /currency";
+    private static final String UPDATE = "PUT /currency/{id}";
+    private static final String DELETE = "DELETE /currency/{id}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Arrange: Sobe o stub com a distribuição de latência, a taxa de erro e a cobertura de pares configuradas, e a
+     * aplicação apontada para ele.
+     * Act: Executa em sequência os cenários de conversão, catálogo e CRUD, cada um na sua taxa de chegada fixa e
+     * precedido de um aquecimento descartado.
+     * Assert: Verifica se todas as chegadas planejadas foram disparadas e respondidas, se catálogo e CRUD não tiveram
+     * erros (as falhas injetadas no stub só afetam a conversão) e se o relatório JSON foi gravado.
+     */
+
+    @Test
+    void runLoadScenarios() throws Exception {
+        try (StubAwesomeApiServer stub = new StubAwesomeApiServer(LatencyDistribution.parse(LATENCY));
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(CurrencyApiApplication.class).run(
+                     "--server.port=0",
+                     "--spring.datasource.url=jdbc:h2:mem:loadtest",
+                     "--currency.awesome-api.url=" + stub.baseUrl());
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            stub.errorRate(ERROR_RATE);
+            stub.pairCoverage(PAIR_COVERAGE);
+            String baseUrl = "http://127.0.0.1:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort() + "/currency";
+            List<String> codes = context.getBean(CurrencyRepository.class).findAll().stream().map(Currency::getCode).toList();
+            AtomicLong crudSequence = new AtomicLong();
+            ArrivalRateDriver driver = new ArrivalRateDriver(
+                    HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build());
+
+            ArrivalRateDriver.ScenarioResult convert = run(driver, "convert", CONVERT_RATE, (index, intended, recorder) -> {
+                SplittableRandom random = new SplittableRandom(index);
+                String body = "{\"from\":\"" + codes.get(random.nextInt(codes.size())) + "\",\"to\":\""
+                        + codes.get(random.nextInt(codes.size())) + "\",\"amount\":100}";
+                return driver.send(recorder, CONVERT, json(URI.create(baseUrl + "/convert"), "POST", body), intended);
+            });
+            ArrivalRateDriver.ScenarioResult catalog = run(driver, "catalog", CATALOG_RATE, (index, intended, recorder) ->
+                    driver.send(recorder, CATALOG, HttpRequest.newBuilder(URI.create(baseUrl)).GET().build(), intended));
+            ArrivalRateDriver.ScenarioResult crud = run(driver, "crud", CRUD_RATE, (index, intended, recorder) -> {
+                String code = "LT" + crudSequence.incrementAndGet();
+                return driver.send(recorder, CREATE, json(URI.create(baseUrl), "POST", currency(code, "Moeda de carga " + code)), intended)
+                        .thenCompose(created -> {
+                            if (created == null || created.statusCode() != 201) {
+                                return CompletableFuture.completedFuture(null);
+                            }
+                            URI item = URI.create(baseUrl + "/" + created.body());
+                            return driver.send(recorder, UPDATE, json(item, "PUT", currency(code, "Moeda de carga alterada " + code)), System.nanoTime())
+                                    .thenCompose(updated -> driver.send(recorder, DELETE,
+                                            HttpRequest.newBuilder(item).DELETE().build(), System.nanoTime()));
+                        });
+            });
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("startedAt", Instant.now().toString());
+            report.put("config", Map.of(
+                    "warmupSeconds", WARMUP.toSeconds(),
+                    "durationSeconds", DURATION.toSeconds(),
+                    "upstreamLatency", LATENCY,
+                    "upstreamErrorRate", ERROR_RATE,
+                    "upstreamPairCoverage", PAIR_COVERAGE));
+            report.put("scenarios", List.of(convert, catalog, crud));
+            report.put("upstream", Map.of(
+                    "requests", stub.requestCount(),
+                    "errorResponses", stub.errorResponses(),
+                    "maxInFlight", stub.maxInFlight()));
+            Files.createDirectories(OUTPUT.toAbsolutePath().getParent());
+            objectMapper.writeValue(OUTPUT.toFile(), report);
+
+            assertThat(convert.endpoint(CONVERT).requests()).isEqualTo(convert.arrivals());
+            assertThat(catalog.endpoint(CATALOG).requests()).isEqualTo(catalog.arrivals());
+            assertThat(catalog.endpoint(CATALOG).errors()).isZero();
+            assertThat(crud.endpoint(CREATE).requests()).isEqualTo(crud.arrivals());
+            assertThat(crud.endpoints()).allSatisfy(endpoint -> assertThat(endpoint.errors()).isZero());
+            assertThat(OUTPUT).exists();
+        }
+    }
+
+    /**
+     * Roda o cenário primeiro pelo tempo de aquecimento, descartando o resultado, e depois pelo tempo medido.
+     */
+    private static ArrivalRateDriver.ScenarioResult run(ArrivalRateDriver driver, String name, int rate,
+                                                        ArrivalRateDriver.Arrival arrival) {
+        if (!WARMUP.isZero()) {
+            driver.run(name, rate, WARMUP, arrival);
+        }
+        return driver.run(name, rate, DURATION, arrival);
+    }
+
+    private static HttpRequest json(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String currency(String code, String name) {
+        return "{\"code\":\"" + code + "\",\"name\":\"" + name + "\"}";
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.ada.currencyapi.repository;
+
+import br.com.ada.currencyapi.domain.Currency;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Anotação: @DataJpaTest - Carrega apenas a camada JPA sobre o H2, com as migrações do Flyway aplicadas.
+// As estatísticas do Hibernate são ligadas para contar os comandos preparados.
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CurrencyRepositoryTest {
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Act: Percorre o catálogo inteiro em páginas de 10, usando o último código de cada página como cursor.
+     * Assert: Verifica se as páginas juntas trazem todas as moedas, uma única vez e ordenadas por código.
+     */
+
+    @Test
+    void testFindPageWalksTheWholeCatalogByCode() {
+        List<String> expected = currencyRepository.findAll().stream()
+                .map(Currency::getCode)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+
+        List<String> walked = new ArrayList<>();
+        String after = "";
+        List<Currency> page;
+        do {
+            page = currencyRepository.findPage(after, "%", "%", Limit.of(10));
+            page.forEach(currency -> walked.add(currency.getCode()));
+            after = page.isEmpty() ? after : page.get(page.size() - 1).getCode();
+        } while (page.size() == 10);
+
+        assertThat(walked).isEqualTo(expected);
+    }
+
+    /**
+     * Act: Consulta por prefixo de código, por trecho do nome em minúsculas e pelos dois a partir de um cursor.
+     * Assert: Verifica se cada filtro devolve apenas as moedas correspondentes, em ordem de código.
+     */
+
+    @Test
+    void testFindPageFiltersByCodePrefixAndName() {
+        assertThat(currencyRepository.findPage("", "BR%", "%", Limit.of(10)))
+                .extracting(Currency::getCode).containsExactly("BRL", "BRLT");
+        assertThat(currencyRepository.findPage("", "%", "%real brasileiro%", Limit.of(10)))
+                .extracting(Currency::getCode).containsExactly("BRL", "BRLT");
+        assertThat(currencyRepository.findPage("BRL", "BR%", "%real%", Limit.of(10)))
+                .extracting(Currency::getCode).containsExactly("BRLT");
+    }
+
+    /**
+     * Act: Consulta o nome com um "%" literal escapado.
+     * Assert: Verifica se o caractere não funciona como curinga.
+     */
+
+    @Test
+    void testFindPageTreatsEscapedWildcardsLiterally() {
+        assertThat(currencyRepository.findPage("", "%", "%\\%%", Limit.of(10))).isEmpty();
+    }
+
+    /**
+     * Act: Grava 120 moedas novas com saveAll e força o flush.
+     * Assert: Verifica se os ids vêm da sequência, acima dos já cadastrados, e se os INSERTs foram enviados em lotes,
+     * com poucos comandos preparados em vez de um por linha.
+     */
+
+    @Test
+    void testSaveAllBatchesInsertsWithSequenceIds() {
+        long maxSeededId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM currency", Long.class);
+        List<Currency> currencies = IntStream.range(0, 120)
+                .mapToObj(i -> Currency.builder().code("ZB" + i).name("Moeda em Lote " + i).build())
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        currencyRepository.saveAll(currencies);
+        currencyRepository.flush();
+
+        assertThat(currencies).allSatisfy(currency -> assertThat(currency.getId()).isGreaterThan(maxSeededId));
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    /**
+     * Act: Insere uma moeda por SQL puro, sem id, e outra pelo repositório.
+     * Assert: Verifica se as duas recebem ids distintos da mesma sequência.
+     */
+
+    @Test
+    void testPlainSqlInsertsShareTheSequence() {
+        Currency saved = currencyRepository.saveAndFlush(Currency.builder().code("ZQ1").name("Moeda JPA").build());
+        jdbcTemplate.update("INSERT INTO currency (code, name) VALUES ('ZQ2', 'Moeda SQL')");
+        Currency next = currencyRepository.saveAndFlush(Currency.builder().code("ZQ3").name("Moeda JPA 2").build());
+
+        Long sqlId = jdbcTemplate.queryForObject("SELECT id FROM currency WHERE code = 'ZQ2'", Long.class);
+        assertThat(List.of(saved.getId(), sqlId, next.getId())).doesNotHaveDuplicates();
+    }
+
+    /**
+     * Act: Busca por códigos e por nomes normalizados.
+     * Assert: Verifica se as consultas usadas pela gravação em lote encontram as moedas cadastradas.
+     */
+
+    @Test
+    void testFindByCodeAndNormalizedName() {
+        assertThat(currencyRepository.findByCodeIn(Set.of("USD", "EUR", "ZZZ"))).extracting(Currency::getCode)
+                .containsExactlyInAnyOrder("USD", "EUR");
+        assertThat(currencyRepository.findByNormalizedNameIn(Set.of("euro", "nada"))).extracting(Currency::getCode)
+                .containsExactly("EUR");
+    }
+}
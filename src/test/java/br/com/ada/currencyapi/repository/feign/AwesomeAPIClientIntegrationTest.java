@@ -0,0 +1,109 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import br.com.ada.currencyapi.support.StubAwesomeApiServer;
+import feign.Client;
+import feign.FeignException;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Sobe a aplicação apontando o AwesomeAPIClient para o servidor stub, para verificar o transporte HTTP configurado
+ * em {@code spring.cloud.openfeign.*}: Apache HttpClient 5 com pool de conexões e respostas comprimidas com gzip.
+ */
+@SpringBootTest(properties = "currency.rate-prefetch.enabled=false")
+class AwesomeAPIClientIntegrationTest {
+
+    private static final StubAwesomeApiServer STUB = startStub();
+
+    @Autowired
+    private AwesomeAPIClient awesomeApiClient;
+
+    @Autowired
+    private Client feignClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static StubAwesomeApiServer startStub() {
+        try {
+            return new StubAwesomeApiServer(Duration.ZERO);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void awesomeApiProperties(DynamicPropertyRegistry registry) {
+        registry.add("currency.awesome-api.url", STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    /**
+     * Act: Faz três chamadas seguidas ao stub pelo AwesomeAPIClient.
+     * Assert: Verifica se o Feign usa o Apache HttpClient 5, se as respostas vieram comprimidas com gzip e foram
+     * descomprimidas corretamente, e se as três chamadas reaproveitaram a mesma conexão do pool.
+     */
+
+    @Test
+    void testCallsReusePooledConnectionAndAcceptGzip() {
+        STUB.reset();
+
+        Map<String, ExchangeRate> response = null;
+        for (int i = 0; i < 3; i++) {
+            response = awesomeApiClient.getLastCurrency("USD-BRL");
+        }
+
+        assertThat(feignClient).isInstanceOf(ApacheHttp5Client.class);
+        assertThat(response.get("USD-BRL").getRate()).isEqualByComparingTo(new BigDecimal("1.2"));
+        assertThat(STUB.gzipResponses()).isEqualTo(3);
+        assertThat(STUB.connectionCount()).isEqualTo(1);
+    }
+
+    /**
+     * Arrange: Marca o par XXX-BRL como desconhecido no stub.
+     * Act: Faz uma chamada bem-sucedida e uma chamada que recebe 404 pelo AwesomeAPIClient.
+     * Assert: Verifica se o timer da AwesomeAPI registrou uma chamada em cada resultado e se publica percentis.
+     */
+
+    @Test
+    void testCallsAreTimedByOutcome() {
+        STUB.unknownPair("XXX-BRL");
+        long successes = upstreamCalls(CurrencyMetrics.SUCCESS);
+        long notFound = upstreamCalls(CurrencyMetrics.NOT_FOUND);
+
+        awesomeApiClient.getLastCurrency("USD-BRL");
+        assertThatThrownBy(() -> awesomeApiClient.getLastCurrency("XXX-BRL")).isInstanceOf(FeignException.NotFound.class);
+
+        assertThat(upstreamCalls(CurrencyMetrics.SUCCESS)).isEqualTo(successes + 1);
+        assertThat(upstreamCalls(CurrencyMetrics.NOT_FOUND)).isEqualTo(notFound + 1);
+        assertThat(meterRegistry.get(CurrencyMetrics.UPSTREAM_REQUESTS).tag("outcome", CurrencyMetrics.SUCCESS).timer()
+                .takeSnapshot().percentileValues()).isNotEmpty();
+    }
+
+    private long upstreamCalls(String outcome) {
+        Timer timer = meterRegistry.find(CurrencyMetrics.UPSTREAM_REQUESTS).tags("client", "feign", "outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
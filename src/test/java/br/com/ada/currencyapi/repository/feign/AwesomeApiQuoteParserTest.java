@@ -0,0 +1,71 @@
+package br.com.ada.currencyapi.repository.feign;
+
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AwesomeApiQuoteParserTest {
+
+    private final AwesomeApiQuoteParser parser = new AwesomeApiQuoteParser(new ObjectMapper());
+
+    /**
+     * Arrange: Monta uma resposta da AwesomeAPI com dois pares e todos os campos que a API devolve.
+     * Act: Lê a resposta pelo parser.
+     * Assert: Verifica se cada par foi indexado como "CODE-CODEIN" com o valor de low e o mesmo instante de busca.
+     */
+
+    @Test
+    void testParseKeepsPairAndLowOnly() throws IOException {
+        String body = """
+                {"USDBRL":{"code":"USD","codein":"BRL","name":"Dólar Americano/Real Brasileiro","high":"5.1","low":"4.9876",
+                "varBid":"-0.01","pctChange":"-0.2","bid":"5.0","ask":"5.01","timestamp":"1718312400","create_date":"2024-06-13 17:00:00"},
+                "EURBRL":{"high":6.2,"low":5.75,"code":"EUR","codein":"BRL"}}
+                """;
+
+        Map<String, ExchangeRate> rates = parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(rates).containsOnlyKeys("USD-BRL", "EUR-BRL");
+        assertThat(rates.get("USD-BRL").getPair()).isEqualTo("USD-BRL");
+        assertThat(rates.get("USD-BRL").getRate()).isEqualByComparingTo("4.9876");
+        assertThat(rates.get("EUR-BRL").getRate()).isEqualByComparingTo("5.75");
+        assertThat(rates.get("USD-BRL").getFetchedAt()).isEqualTo(rates.get("EUR-BRL").getFetchedAt());
+    }
+
+    /**
+     * Arrange: Monta uma resposta com um par sem low, um valor que não é objeto e campos aninhados desconhecidos.
+     * Act: Lê a resposta pelo parser.
+     * Assert: Verifica se apenas o par completo foi devolvido e se os demais valores foram ignorados.
+     */
+
+    @Test
+    void testParseSkipsIncompleteAndUnknownEntries() throws IOException {
+        String body = """
+                {"status":404,"XXXBRL":{"code":"XXX","codein":"BRL","low":null},
+                "GBPBRL":{"extra":{"nested":[1,2,{"low":"9"}]},"code":"GBP","codein":"BRL","low":"6.8"}}
+                """;
+
+        Map<String, ExchangeRate> rates = parser.parse(body.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(rates).containsOnlyKeys("GBP-BRL");
+        assertThat(rates.get("GBP-BRL").getRate()).isEqualByComparingTo("6.8");
+    }
+
+    /**
+     * Act & Assert: Verifica se uma resposta que não é um objeto JSON é rejeitada com JsonParseException.
+     */
+
+    @Test
+    void testParseRejectsNonObjectBody() {
+        assertThatThrownBy(() -> parser.parse("[]".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(JsonParseException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.ada.currencyapi.service;
+
+import br.com.ada.currencyapi.config.ConversionProperties;
+import br.com.ada.currencyapi.config.ConvertBatchProperties;
+import br.com.ada.currencyapi.domain.BatchConvertItemResponse;
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.RateType;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import br.com.ada.currencyapi.exception.CurrencyException;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CurrencyBatchServiceTest {
+
+    @Mock
+    private CurrencyService currencyService;
+
+    private ConvertBatchProperties properties;
+
+    private ExecutorService rateLookupExecutor;
+
+    private CurrencyBatchService currencyBatchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doCallRealMethod().when(currencyService).validateConvertRequest(any());
+        properties = new ConvertBatchProperties();
+        properties.setMaxSize(5);
+        rateLookupExecutor = Executors.newFixedThreadPool(properties.getLookupParallelism());
+        currencyBatchService = new CurrencyBatchService(currencyService, properties, rateLookupExecutor,
+                new ConversionArithmetic(new ConversionProperties()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLookupExecutor.shutdownNow();
+    }
+
+    private static ConvertCurrencyRequest request(String from, String to, long amount) {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom(from);
+        request.setTo(to);
+        request.setAmount(BigDecimal.valueOf(amount));
+        return request;
+    }
+
+    private static ConversionRate rate(long value) {
+        return ConversionRate.builder().rate(BigDecimal.valueOf(value)).type(RateType.DIRECT).fetchedAt(Instant.now()).build();
+    }
+
+    /**
+     * Mock: Configura o currencyService para resolver as taxas USD-BRL e EUR-BRL.
+     * Act: Converte um lote com três itens USD-BRL e um EUR-BRL.
+     * Assert: Verifica se os resultados seguem a ordem da requisição e se cada par distinto foi resolvido apenas uma vez.
+     */
+
+    @Test
+    void testConvertKeepsOrderAndResolvesEachPairOnce() {
+        when(currencyService.resolveRate("USD", "BRL")).thenReturn(rate(5));
+        when(currencyService.resolveRate("EUR", "BRL")).thenReturn(rate(6));
+
+        List<BatchConvertItemResponse> result = currencyBatchService.convert(List.of(
+                request("USD", "BRL", 1),
+                request("EUR", "BRL", 1),
+                request("USD", "BRL", 2),
+                request("USD", "BRL", 3)));
+
+        assertThat(result).extracting(BatchConvertItemResponse::getAmount)
+                .containsExactly(new BigDecimal("5.00"), new BigDecimal("6.00"), new BigDecimal("10.00"), new BigDecimal("15.00"));
+        verify(currencyService, times(1)).resolveRate("USD", "BRL");
+        verify(currencyService, times(1)).resolveRate("EUR", "BRL");
+    }
+
+    /**
+     * Mock: Configura o currencyService para não encontrar a taxa do par XXX-BRL.
+     * Act: Converte um lote com um item válido, um item inválido e um par desconhecido.
+     * Assert: Verifica se cada erro é informado no próprio item, sem impedir a conversão dos demais.
+     */
+
+    @Test
+    void testConvertReportsErrorsPerItem() {
+        when(currencyService.resolveRate("USD", "BRL")).thenReturn(rate(5));
+        when(currencyService.resolveRate("XXX", "BRL")).thenThrow(new CoinNotFoundException("Exchange rate not found for BRL to XXX"));
+
+        List<BatchConvertItemResponse> result = currencyBatchService.convert(List.of(
+                request("USD", "BRL", 1),
+                request("", "BRL", 1),
+                request("XXX", "BRL", 1)));
+
+        assertThat(result.get(0).getAmount()).isEqualTo(new BigDecimal("5.00"));
+        assertThat(result.get(0).getError()).isNull();
+        assertThat(result.get(1).getError()).isEqualTo("Invalid ConvertCurrencyRequest");
+        assertThat(result.get(2).getError()).isEqualTo("Exchange rate not found for BRL to XXX");
+        verify(currencyService, never()).resolveRate(eq(""), anyString());
+    }
+
+    /**
+     * Act & Assert: Verifica se lotes vazios ou maiores que o limite configurado são rejeitados com CurrencyException.
+     */
+
+    @Test
+    void testConvertRejectsEmptyOrOversizedBatch() {
+        assertThatThrownBy(() -> currencyBatchService.convert(Collections.emptyList()))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Invalid batch request");
+
+        assertThatThrownBy(() -> currencyBatchService.convert(Collections.nCopies(6, request("USD", "BRL", 1))))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Batch exceeds the maximum of 5 conversions");
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.web.WebAppConfiguration;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Map;
 import java.util.Optional;
 
@@ -47,7 +48,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  * hasRootCause: Verifica a causa raiz da exceção.
  */
 
-@SpringBootTest
+@SpringBootTest(properties = "currency.rate-prefetch.enabled=false")
 @WebAppConfiguration
 @Transactional
 class CurrencyServiceIntegrationTest {
@@ -204,19 +205,19 @@ class CurrencyServiceIntegrationTest {
         request.setTo("BRL");
         request.setAmount(BigDecimal.valueOf(100));
 
-        String currencyCode = request.getFrom() + request.getTo();
-        Map<String, CurrencyAPIResponse> apiResponse = awesomeApiClient.getLastCurrency(request.getFrom() + "-" + request.getTo());
+        String currencyCode = request.getFrom() + "-" + request.getTo();
+        Map<String, ExchangeRate> apiResponse = awesomeApiClient.getLastCurrency(request.getFrom() + "-" + request.getTo());
 
         assertThat(apiResponse).isNotNull();
 
-        CurrencyAPIResponse currencyAPIResponse = apiResponse.get(currencyCode);
+        ExchangeRate exchangeRate = apiResponse.get(currencyCode);
 
-        assertThat(currencyAPIResponse).isNotNull();
-        assertThat(currencyAPIResponse.getLow()).isNotNull();
+        assertThat(exchangeRate).isNotNull();
+        assertThat(exchangeRate.getRate()).isNotNull();
 
         ConvertCurrencyResponse result = currencyService.convert(request);
 
-        BigDecimal expectedAmount = request.getAmount().multiply(currencyAPIResponse.getLow());
+        BigDecimal expectedAmount = request.getAmount().multiply(exchangeRate.getRate()).setScale(2, RoundingMode.HALF_EVEN);
         assertThat(result.getAmount()).isEqualTo(expectedAmount);
     }
 
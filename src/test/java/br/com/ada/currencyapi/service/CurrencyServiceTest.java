@@ -1,24 +1,55 @@
 package br.com.ada.currencyapi.service;
 
+import br.com.ada.currencyapi.config.CatalogProperties;
+import br.com.ada.currencyapi.config.ConversionProperties;
+import br.com.ada.currencyapi.config.CrossRateProperties;
+import br.com.ada.currencyapi.config.CurrencyMetricsProperties;
+import br.com.ada.currencyapi.config.RateBatchProperties;
+import br.com.ada.currencyapi.config.RateCacheProperties;
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
 import br.com.ada.currencyapi.domain.*;
 import br.com.ada.currencyapi.exception.CoinNotFoundException;
 import br.com.ada.currencyapi.exception.CurrencyException;
 import br.com.ada.currencyapi.repository.CurrencyRepository;
 import br.com.ada.currencyapi.repository.feign.AwesomeAPIClient;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalog;
+import br.com.ada.currencyapi.service.catalog.CurrencySearchIndex;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalogChangedEvent;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import br.com.ada.currencyapi.service.rate.AwesomeApiRateSource;
+import br.com.ada.currencyapi.service.rate.CrossRateEngine;
+import br.com.ada.currencyapi.service.rate.ExchangeRateCache;
+import br.com.ada.currencyapi.service.rate.RateBatchDispatcher;
+import br.com.ada.currencyapi.service.rate.RateSnapshot;
+import br.com.ada.currencyapi.service.rate.RateSnapshotHolder;
+import br.com.ada.currencyapi.service.timing.RequestTiming;
+import br.com.ada.currencyapi.service.timing.TimingPhase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -59,12 +90,40 @@ class CurrencyServiceTest {
     @Mock
     private CurrencyRepository currencyRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RateSnapshotHolder rateSnapshotHolder;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CatalogProperties catalogProperties;
+
     private CurrencyService currencyService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        catalogProperties = new CatalogProperties();
+        RateBatchDispatcher batchDispatcher = new RateBatchDispatcher(new AwesomeApiRateSource(awesomeApiClient, CircuitBreaker.ofDefaults("awesomeApi")), new RateBatchProperties(), Runnable::run);
+        ExchangeRateCache exchangeRateCache = new ExchangeRateCache(batchDispatcher, new RateCacheProperties(), Runnable::run);
+        RatePrefetchProperties prefetchProperties = new RatePrefetchProperties();
+        rateSnapshotHolder = new RateSnapshotHolder(prefetchProperties);
+        CrossRateEngine crossRateEngine = new CrossRateEngine(rateSnapshotHolder, prefetchProperties, new CrossRateProperties());
+        currencyService = new CurrencyService(exchangeRateCache, crossRateEngine, currencyRepository,
+                new CurrencyCatalog(currencyRepository, new ObjectMapper()), eventPublisher, new ConversionArithmetic(new ConversionProperties()),
+                new CurrencyMetrics(meterRegistry, new CurrencyMetricsProperties()), catalogProperties,
+                new CurrencySearchIndex(currencyRepository));
+        when(currencyRepository.findAll()).thenReturn(List.of(
+                Currency.builder().id(1L).name("Dólar Americano").code("USD").build(),
+                Currency.builder().id(2L).name("Real Brasileiro").code("BRL").build(),
+                Currency.builder().id(3L).name("Euro").code("EUR").build(),
+                Currency.builder().id(4L).name("Iene Japonês").code("JPY").build()));
+    }
+
+    private static ExchangeRate quote(String pair, BigDecimal rate) {
+        return ExchangeRate.builder().pair(pair).rate(rate).fetchedAt(Instant.now()).build();
     }
 
     /**
@@ -94,9 +153,10 @@ class CurrencyServiceTest {
 
     /**
      * Arrange: Cria um objeto CurrencyRequest com o nome "Dólar Americano" e o código "USD".
-     * Mock: Configura o mock currencyRepository para retornar null ao buscar por nome e para retornar uma moeda com ID 1 ao salvar a moeda.
+     * Mock: Configura o mock currencyRepository para retornar um catálogo vazio e para retornar uma moeda com ID 1 ao salvar a moeda.
      * Act: Chama o método create do currencyService com o request.
-     * Assert: Verifica se o ID retornado é 1 e se os métodos findByName e save do repositório foram chamados uma vez cada.
+     * Assert: Verifica se o ID retornado é 1, se a existência foi verificada no catálogo em memória (uma única carga com findAll),
+     * se o método saveAndFlush foi chamado uma vez e se a mudança no catálogo foi publicada.
      */
 
     @Test
@@ -105,21 +165,23 @@ class CurrencyServiceTest {
         request.setName("Dólar Americano");
         request.setCode("USD");
 
-        when(currencyRepository.findByName(anyString())).thenReturn(null);
-        when(currencyRepository.save(any(Currency.class))).thenReturn(Currency.builder().id(1L).build());
+        when(currencyRepository.findAll()).thenReturn(Collections.emptyList());
+        when(currencyRepository.saveAndFlush(any(Currency.class))).thenReturn(Currency.builder().id(1L).build());
 
         Long id = currencyService.create(request);
 
         assertThat(id).isEqualTo(1L);
-        verify(currencyRepository, times(1)).findByName(anyString());
-        verify(currencyRepository, times(1)).save(any(Currency.class));
+        verify(currencyRepository, times(1)).findAll();
+        verify(currencyRepository, never()).existsById(anyLong());
+        verify(currencyRepository, times(1)).saveAndFlush(any(Currency.class));
+        verify(eventPublisher).publishEvent(new CurrencyCatalogChangedEvent(1L));
     }
 
     /**
      * Arrange: Cria um objeto CurrencyRequest com o nome "Dólar Americano" e o código "USD".
-     * Mock: Configura o mock currencyRepository para retornar uma moeda ao buscar por nome.
+     * Mock: Configura o mock currencyRepository para retornar um catálogo com uma moeda de mesmo nome, confirmada pela chave primária.
      * Act & Assert: Verifica se o método create lança uma CurrencyException com a mensagem "Coin already exists".
-     * Verifica também se o método findByName foi chamado uma vez e o método save não foi chamado.
+     * Verifica também se o catálogo foi carregado uma vez e o método saveAndFlush não foi chamado.
      */
 
     @Test
@@ -128,23 +190,139 @@ class CurrencyServiceTest {
         request.setName("Dólar Americano");
         request.setCode("USD");
 
-        when(currencyRepository.findByName(anyString())).thenReturn(Currency.builder().build());
+        when(currencyRepository.findAll()).thenReturn(List.of(Currency.builder().id(2L).name("Dólar Americano").code("USD").build()));
+        when(currencyRepository.existsById(2L)).thenReturn(true);
+
+        assertThatThrownBy(() -> currencyService.create(request))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Coin already exists");
+
+        verify(currencyRepository, times(1)).findAll();
+        verify(currencyRepository, times(0)).saveAndFlush(any(Currency.class));
+    }
+
+    /**
+     * Arrange: Cria um objeto CurrencyRequest com o nome " dólar americano " (caixa e espaços diferentes) e o código "USX".
+     * Mock: Configura o mock currencyRepository para retornar um catálogo com a moeda "Dólar Americano".
+     * Act & Assert: Verifica se o método create lança uma CurrencyException, pois o nome normalizado já existe,
+     * e se o método saveAndFlush não foi chamado.
+     */
+
+    @Test
+    void testCreateThrowsCurrencyExceptionWhenNormalizedNameExists() {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName(" dólar americano ");
+        request.setCode("USX");
+
+        when(currencyRepository.findAll()).thenReturn(List.of(Currency.builder().id(2L).name("Dólar Americano").code("USD").build()));
+        when(currencyRepository.existsById(2L)).thenReturn(true);
+
+        assertThatThrownBy(() -> currencyService.create(request))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Coin already exists");
+
+        verify(currencyRepository, times(0)).saveAndFlush(any(Currency.class));
+    }
+
+    /**
+     * Arrange: Cria um objeto CurrencyRequest com um nome novo e o código "USD", já cadastrado.
+     * Mock: Configura o mock currencyRepository para retornar um catálogo com a moeda USD.
+     * Act & Assert: Verifica se o método create lança uma CurrencyException e se o método saveAndFlush não foi chamado.
+     */
+
+    @Test
+    void testCreateThrowsCurrencyExceptionWhenCodeExists() {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Dólar de Teste");
+        request.setCode("USD");
+
+        when(currencyRepository.findAll()).thenReturn(List.of(Currency.builder().id(2L).name("Dólar Americano").code("USD").build()));
+        when(currencyRepository.existsById(2L)).thenReturn(true);
+
+        assertThatThrownBy(() -> currencyService.create(request))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Coin already exists");
+
+        verify(currencyRepository, times(0)).saveAndFlush(any(Currency.class));
+    }
+
+    /**
+     * Arrange: Cria um objeto CurrencyRequest com o nome e o código de uma moeda que ainda aparece no catálogo em memória.
+     * Mock: Configura o mock currencyRepository para indicar que essa moeda já não existe pela chave primária
+     * (removida na transação atual) e para retornar uma moeda com ID 3 ao salvar.
+     * Act: Chama o método create do currencyService com o request.
+     * Assert: Verifica se a moeda foi criada com o ID 3.
+     */
+
+    @Test
+    void testCreateIgnoresCatalogEntryThatNoLongerExists() throws CurrencyException {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Dólar Americano");
+        request.setCode("USD");
+
+        when(currencyRepository.findAll()).thenReturn(List.of(Currency.builder().id(2L).name("Dólar Americano").code("USD").build()));
+        when(currencyRepository.existsById(2L)).thenReturn(false);
+        when(currencyRepository.saveAndFlush(any(Currency.class))).thenReturn(Currency.builder().id(3L).build());
+
+        assertThat(currencyService.create(request)).isEqualTo(3L);
+        verify(currencyRepository, times(1)).existsById(2L);
+    }
+
+    /**
+     * Arrange: Cria um objeto CurrencyRequest que ainda não está no catálogo em memória.
+     * Mock: Configura o mock currencyRepository para lançar DataIntegrityViolationException ao salvar,
+     * simulando uma moeda criada em paralelo que violou o índice único.
+     * Act & Assert: Verifica se o método create lança uma CurrencyException com a mensagem "Coin already exists"
+     * e se nenhuma mudança no catálogo foi publicada.
+     */
+
+    @Test
+    void testCreateThrowsCurrencyExceptionWhenUniqueIndexIsViolated() {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Dólar Americano");
+        request.setCode("USD");
+
+        when(currencyRepository.findAll()).thenReturn(Collections.emptyList());
+        when(currencyRepository.saveAndFlush(any(Currency.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThatThrownBy(() -> currencyService.create(request))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Coin already exists");
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * Arrange: Cria um objeto CurrencyRequest com o código de uma moeda que aparece no catálogo em memória.
+     * Mock: Configura o mock currencyRepository para lançar DataIntegrityViolationException ao consultar essa moeda,
+     * simulando o flush de um INSERT pendente na transação de quem chamou que viola o índice único.
+     * Act & Assert: Verifica se o método create lança uma CurrencyException com a mensagem "Coin already exists"
+     * sem tentar salvar a moeda.
+     */
+
+    @Test
+    void testCreateThrowsCurrencyExceptionWhenPendingWritesViolateUniqueIndex() {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Dólar Americano");
+        request.setCode("USD");
+
+        when(currencyRepository.findAll()).thenReturn(List.of(Currency.builder().id(2L).name("Dólar Americano").code("USD").build()));
+        when(currencyRepository.existsById(2L)).thenThrow(new DataIntegrityViolationException("duplicate"));
 
         assertThatThrownBy(() -> currencyService.create(request))
                 .isInstanceOf(CurrencyException.class)
                 .hasMessage("Coin already exists");
 
-        verify(currencyRepository, times(1)).findByName(anyString());
-        verify(currencyRepository, times(0)).save(any(Currency.class));
+        verify(currencyRepository, never()).saveAndFlush(any(Currency.class));
     }
 
     /**
      * Arrange: Cria um objeto CurrencyRequest e uma moeda existente Currency.
-     * Mock: Configura o mock currencyRepository para retornar a moeda existente ao buscar por ID e null ao buscar por nome.
+     * Mock: Configura o mock currencyRepository para retornar a moeda existente ao buscar por ID e o catálogo apenas com ela.
      * Configura para retornar a moeda existente ao salvar.
      * Act: Chama o método update do currencyService com ID 1 e o request.
      * Assert: Verifica se os campos da moeda existente foram atualizados.
-     * Verifica também se os métodos findById, findByName e save foram chamados uma vez cada.
+     * Verifica também se os métodos findById, findAll e saveAndFlush foram chamados uma vez cada.
      */
 
     @Test
@@ -160,23 +338,82 @@ class CurrencyServiceTest {
                 .build();
 
         when(currencyRepository.findById(anyLong())).thenReturn(Optional.of(existingCurrency));
-        when(currencyRepository.findByName(anyString())).thenReturn(null);
-        when(currencyRepository.save(any(Currency.class))).thenReturn(existingCurrency);
+        when(currencyRepository.findAll()).thenReturn(List.of(Currency.builder().id(1L).name("Euro").code("EUR").build()));
+        when(currencyRepository.saveAndFlush(any(Currency.class))).thenReturn(existingCurrency);
 
         currencyService.update(1L, request);
 
         assertThat(existingCurrency.getName()).isEqualTo("Dólar Americano");
         assertThat(existingCurrency.getCode()).isEqualTo("USD");
         verify(currencyRepository, times(1)).findById(anyLong());
-        verify(currencyRepository, times(1)).findByName(anyString());
-        verify(currencyRepository, times(1)).save(any(Currency.class));
+        verify(currencyRepository, times(1)).findAll();
+        verify(currencyRepository, times(1)).saveAndFlush(any(Currency.class));
+    }
+
+    /**
+     * Arrange: Cria um objeto CurrencyRequest com o mesmo nome da moeda 1 e um código novo.
+     * Mock: Configura o mock currencyRepository para retornar a moeda 1 ao buscar por ID e no catálogo.
+     * Act: Chama o método update do currencyService com ID 1 e o request.
+     * Assert: Verifica se a moeda não conflita consigo mesma e se o código foi atualizado.
+     */
+
+    @Test
+    void testUpdateKeepingOwnNameDoesNotConflict() throws CurrencyException {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Euro");
+        request.setCode("EURT");
+
+        Currency existingCurrency = Currency.builder()
+                .id(1L)
+                .name("Euro")
+                .code("EUR")
+                .build();
+
+        when(currencyRepository.findById(1L)).thenReturn(Optional.of(existingCurrency));
+        when(currencyRepository.findAll()).thenReturn(List.of(Currency.builder().id(1L).name("Euro").code("EUR").build()));
+
+        currencyService.update(1L, request);
+
+        assertThat(existingCurrency.getCode()).isEqualTo("EURT");
+        verify(currencyRepository, times(1)).saveAndFlush(existingCurrency);
+    }
+
+    /**
+     * Arrange: Cria um objeto CurrencyRequest que mantém o nome e o código do USD.
+     * Mock: Configura o catálogo com USD e USDT, que compartilham o nome "Dólar Americano", ambos existentes.
+     * Act: Chama o método update do currencyService com ID 1 e o request.
+     * Assert: Verifica se o nome compartilhado com o USDT não é tratado como duplicado e se a moeda foi salva.
+     */
+
+    @Test
+    void testUpdateKeepingNameSharedWithAnotherCodeDoesNotConflict() throws CurrencyException {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Dólar Americano");
+        request.setCode("USD");
+
+        Currency existingCurrency = Currency.builder()
+                .id(1L)
+                .name("Dólar Americano")
+                .code("USD")
+                .build();
+
+        when(currencyRepository.findById(1L)).thenReturn(Optional.of(existingCurrency));
+        when(currencyRepository.findAll()).thenReturn(List.of(
+                Currency.builder().id(1L).name("Dólar Americano").code("USD").build(),
+                Currency.builder().id(2L).name("Dólar Americano").code("USDT").build()));
+        when(currencyRepository.existsById(2L)).thenReturn(true);
+
+        currencyService.update(1L, request);
+
+        verify(currencyRepository, never()).existsById(2L);
+        verify(currencyRepository, times(1)).saveAndFlush(existingCurrency);
     }
 
     /**
      * Arrange: Cria um objeto CurrencyRequest com o nome "Dólar Americano" e o código "USD".
      * Mock: Configura o mock currencyRepository para retornar Optional.empty() ao buscar por ID.
      * Act & Assert: Verifica se o método update lança uma CoinNotFoundException com a mensagem "Coin not found".
-     * Verifica também se o método findById foi chamado uma vez e os métodos findByName e save não foram chamados.
+     * Verifica também se o método findById foi chamado uma vez e os métodos findAll e saveAndFlush não foram chamados.
      */
 
     @Test
@@ -192,15 +429,15 @@ class CurrencyServiceTest {
                 .hasMessageContaining("Coin not found");
 
         verify(currencyRepository, times(1)).findById(anyLong());
-        verify(currencyRepository, times(0)).findByName(anyString());
-        verify(currencyRepository, times(0)).save(any(Currency.class));
+        verify(currencyRepository, times(0)).findAll();
+        verify(currencyRepository, times(0)).saveAndFlush(any(Currency.class));
     }
 
     /**
      * Arrange: Cria um objeto CurrencyRequest e uma moeda existente Currency com o mesmo nome mas ID diferente.
-     * Mock: Configura o mock currencyRepository para retornar a moeda existente ao buscar por nome.
+     * Mock: Configura o mock currencyRepository para retornar a moeda a ser atualizada ao buscar por ID e as duas moedas no catálogo.
      * Act & Assert: Verifica se o método update lança uma CurrencyException com a mensagem "Coin already exists".
-     * Verifica também se os métodos findById e findByName foram chamados uma vez e o método save não foi chamado.
+     * Verifica também se os métodos findById e findAll foram chamados uma vez e o método saveAndFlush não foi chamado.
      */
 
     @Test
@@ -222,15 +459,16 @@ class CurrencyServiceTest {
                 .build();
 
         when(currencyRepository.findById(1L)).thenReturn(Optional.of(currencyToBeUpdated));
-        when(currencyRepository.findByName("Dólar Americano")).thenReturn(existingCurrencyWithSameName);
+        when(currencyRepository.findAll()).thenReturn(List.of(existingCurrencyWithSameName, currencyToBeUpdated));
+        when(currencyRepository.existsById(2L)).thenReturn(true);
 
         assertThatThrownBy(() -> currencyService.update(1L, request))
                 .isInstanceOf(CurrencyException.class)
                 .hasMessage("Coin already exists");
 
         verify(currencyRepository, times(1)).findById(1L);
-        verify(currencyRepository, times(1)).findByName("Dólar Americano");
-        verify(currencyRepository, times(0)).save(any(Currency.class));
+        verify(currencyRepository, times(1)).findAll();
+        verify(currencyRepository, times(0)).saveAndFlush(any(Currency.class));
     }
 
     /**
@@ -289,17 +527,159 @@ class CurrencyServiceTest {
         request.setTo("BRL");
         request.setAmount(BigDecimal.valueOf(100));
 
-        CurrencyAPIResponse response = new CurrencyAPIResponse();
-        response.setLow(BigDecimal.valueOf(5));
+        ExchangeRate response = quote("USD-BRL", BigDecimal.valueOf(5));
 
-        when(awesomeApiClient.getLastCurrency(anyString())).thenReturn(Map.of("USDBRL", response));
+        when(awesomeApiClient.getLastCurrency(anyString())).thenReturn(Map.of("USD-BRL", response));
 
         ConvertCurrencyResponse result = currencyService.convert(request);
 
-        assertThat(result.getAmount()).isEqualTo(BigDecimal.valueOf(500));
+        assertThat(result.getAmount()).isEqualTo(new BigDecimal("500.00"));
         verify(awesomeApiClient, times(1)).getLastCurrency(anyString());
     }
 
+    /**
+     * Arrange: Cria um objeto ConvertCurrencyRequest de USD para BRL.
+     * Mock: Configura o mock awesomeApiClient para retornar a taxa de conversão.
+     * Act: Chama o método convert duas vezes com o mesmo par.
+     * Assert: Verifica se a segunda conversão foi atendida pelo cache, chamando getLastCurrency apenas uma vez.
+     */
+
+    @Test
+    void testConvertUsesCachedRate() throws CoinNotFoundException {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("USD");
+        request.setTo("BRL");
+        request.setAmount(BigDecimal.valueOf(100));
+
+        ExchangeRate response = quote("USD-BRL", BigDecimal.valueOf(5));
+
+        when(awesomeApiClient.getLastCurrency("USD-BRL")).thenReturn(Map.of("USD-BRL", response));
+
+        currencyService.convert(request);
+        ConvertCurrencyResponse result = currencyService.convert(request);
+
+        assertThat(result.getAmount()).isEqualTo(new BigDecimal("500.00"));
+        assertThat(currencyService.getRateCacheStats().getHits()).isEqualTo(1);
+        verify(awesomeApiClient, times(1)).getLastCurrency("USD-BRL");
+    }
+
+    /**
+     * Arrange: Publica um snapshot pré-carregado contendo a taxa do par USD-BRL.
+     * Act: Chama o método convert para o par USD-BRL.
+     * Assert: Verifica se a conversão usou a taxa do snapshot, sem chamar a API externa.
+     */
+
+    @Test
+    void testConvertUsesPrefetchedSnapshot() throws CoinNotFoundException {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("USD");
+        request.setTo("BRL");
+        request.setAmount(BigDecimal.valueOf(100));
+
+        ExchangeRate rate = ExchangeRate.builder().pair("USD-BRL").rate(BigDecimal.valueOf(5)).fetchedAt(Instant.now()).build();
+        rateSnapshotHolder.publish(new RateSnapshot("BRL", Map.of("USD-BRL", rate), Instant.now()));
+
+        ConvertCurrencyResponse result = currencyService.convert(request);
+
+        assertThat(result.getAmount()).isEqualTo(new BigDecimal("500.00"));
+        verify(awesomeApiClient, never()).getLastCurrency(anyString());
+    }
+
+    /**
+     * Arrange: Cria um objeto ConvertCurrencyRequest de EUR para JPY.
+     * Mock: Configura o mock awesomeApiClient para não conhecer o par EUR-JPY, mas retornar as cotações de EUR-BRL e JPY-BRL.
+     * Act: Chama o método convert.
+     * Assert: Verifica se a taxa foi triangulada pela moeda pivô (BRL) e se a resposta informa o tipo TRIANGULATED.
+     */
+
+    @Test
+    void testConvertTriangulatesThroughPivotWhenPairIsUnknown() throws CoinNotFoundException {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("EUR");
+        request.setTo("JPY");
+        request.setAmount(BigDecimal.valueOf(10));
+
+        ExchangeRate eur = quote("EUR-BRL", new BigDecimal("6"));
+        ExchangeRate jpy = quote("JPY-BRL", new BigDecimal("0.04"));
+
+        when(awesomeApiClient.getLastCurrency("EUR-JPY")).thenReturn(Collections.emptyMap());
+        when(awesomeApiClient.getLastCurrency("EUR-BRL")).thenReturn(Map.of("EUR-BRL", eur));
+        when(awesomeApiClient.getLastCurrency("JPY-BRL")).thenReturn(Map.of("JPY-BRL", jpy));
+
+        ConvertCurrencyResponse result = currencyService.convert(request);
+
+        assertThat(result.getAmount()).isEqualByComparingTo("1500");
+        assertThat(result.getRateType()).isEqualTo(RateType.TRIANGULATED);
+    }
+
+    /**
+     * Mock: Configura o mock awesomeApiClient para retornar um mapa sem o par solicitado.
+     * Act & Assert: Verifica se o método convert lança uma CoinNotFoundException em vez de falhar com NullPointerException.
+     */
+
+    @Test
+    void testConvertThrowsCoinNotFoundExceptionWhenPairIsMissing() {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("USD");
+        request.setTo("BRL");
+        request.setAmount(BigDecimal.valueOf(100));
+
+        when(awesomeApiClient.getLastCurrency(anyString())).thenReturn(Collections.emptyMap());
+
+        assertThatThrownBy(() -> currencyService.convert(request))
+                .isInstanceOf(CoinNotFoundException.class)
+                .hasMessageContaining("Exchange rate not found");
+    }
+
+    /**
+     * Arrange: Cria um objeto ConvertCurrencyRequest de XYZ, moeda fora do catálogo, para BRL.
+     * Act & Assert: Verifica se o método convert lança uma CoinNotFoundException sem chamar a API externa.
+     */
+
+    @Test
+    void testConvertRejectsCodeOutsideCatalogWithoutUpstreamCall() {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("XYZ");
+        request.setTo("BRL");
+        request.setAmount(BigDecimal.valueOf(100));
+
+        assertThatThrownBy(() -> currencyService.convert(request))
+                .isInstanceOf(CoinNotFoundException.class)
+                .hasMessage("Exchange rate not found for BRL to XYZ");
+
+        verify(awesomeApiClient, never()).getLastCurrency(anyString());
+    }
+
+    /**
+     * Arrange: Cria um objeto ConvertCurrencyRequest de EUR para JPY.
+     * Mock: Configura o mock awesomeApiClient para responder 404 ao par EUR-JPY e retornar as cotações de EUR-BRL e JPY-BRL.
+     * Act: Chama o método convert duas vezes.
+     * Assert: Verifica se as duas conversões foram trianguladas e se o par desconhecido foi consultado apenas uma vez,
+     * ficando guardado no cache negativo.
+     */
+
+    @Test
+    void testConvertDoesNotRetryPairReportedUnknown() throws CoinNotFoundException {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("EUR");
+        request.setTo("JPY");
+        request.setAmount(BigDecimal.valueOf(10));
+
+        ExchangeRate eur = quote("EUR-BRL", new BigDecimal("6"));
+        ExchangeRate jpy = quote("JPY-BRL", new BigDecimal("0.04"));
+
+        when(awesomeApiClient.getLastCurrency("EUR-JPY")).thenThrow(new FeignException.NotFound("not found",
+                Request.create(Request.HttpMethod.GET, "/json/last/EUR-JPY", Map.of(), null, null, null), null, null));
+        when(awesomeApiClient.getLastCurrency("EUR-BRL")).thenReturn(Map.of("EUR-BRL", eur));
+        when(awesomeApiClient.getLastCurrency("JPY-BRL")).thenReturn(Map.of("JPY-BRL", jpy));
+
+        currencyService.convert(request);
+        ConvertCurrencyResponse result = currencyService.convert(request);
+
+        assertThat(result.getRateType()).isEqualTo(RateType.TRIANGULATED);
+        verify(awesomeApiClient, times(1)).getLastCurrency("EUR-JPY");
+    }
+
     /**
      * Arrange: Cria um objeto CurrencyRequest vazio.
      * Act & Assert: Verifica se o método create lança uma CurrencyException com a mensagem "Invalid CurrencyRequest".
@@ -467,4 +847,244 @@ class CurrencyServiceTest {
         assertThatThrownBy(() -> currencyService.convert(request)).isInstanceOf(CurrencyException.class)
                 .hasMessage("Invalid ConvertCurrencyRequest");
     }
+
+    /**
+     * Mock: Configura o mock awesomeApiClient para cotar USD-BRL.
+     * Act: Converte USD-BRL com sucesso, tenta converter um código fora do catálogo e envia uma requisição inválida.
+     * Assert: Verifica se cada conversão foi contada com o par e o resultado corretos, se o código fora do catálogo foi
+     * contado em "other" sem ganhar tag própria e se a requisição inválida não gerou tag de par.
+     */
+
+    @Test
+    void testConvertRecordsOutcomeMetrics() {
+        when(awesomeApiClient.getLastCurrency(anyString())).thenReturn(Map.of("USD-BRL", quote("USD-BRL", BigDecimal.valueOf(5))));
+        ConvertCurrencyRequest valid = new ConvertCurrencyRequest();
+        valid.setFrom("USD");
+        valid.setTo("BRL");
+        valid.setAmount(BigDecimal.TEN);
+        ConvertCurrencyRequest unknown = new ConvertCurrencyRequest();
+        unknown.setFrom("XXX");
+        unknown.setTo("BRL");
+        unknown.setAmount(BigDecimal.TEN);
+        ConvertCurrencyRequest invalid = new ConvertCurrencyRequest();
+        invalid.setFrom("USD");
+        invalid.setTo("BRL");
+
+        currencyService.convert(valid);
+        assertThatThrownBy(() -> currencyService.convert(unknown)).isInstanceOf(CoinNotFoundException.class);
+        assertThatThrownBy(() -> currencyService.convert(invalid)).isInstanceOf(CurrencyException.class);
+
+        assertThat(meterRegistry.get(CurrencyMetrics.CONVERSIONS).tags("pair", "USD-BRL", "outcome", CurrencyMetrics.SUCCESS).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CurrencyMetrics.CONVERSIONS).tags("pair", "other", "outcome", CurrencyMetrics.NOT_FOUND).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CurrencyMetrics.CONVERSIONS).tags("pair", "none", "outcome", CurrencyMetrics.VALIDATION_ERROR).counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Mock: Configura o mock awesomeApiClient para cotar USD-BRL.
+     * Act: Converte USD-BRL com um RequestTiming ativo na thread.
+     * Assert: Verifica se validação, consulta ao catálogo, obtenção da cotação e cálculo foram registrados uma vez cada
+     * e se o cabeçalho gerado lista as fases seguidas de "app".
+     */
+
+    @Test
+    void testConvertReportsPhasesToRequestTiming() {
+        when(awesomeApiClient.getLastCurrency(anyString())).thenReturn(Map.of("USD-BRL", quote("USD-BRL", BigDecimal.valueOf(5))));
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("USD");
+        request.setTo("BRL");
+        request.setAmount(BigDecimal.TEN);
+
+        RequestTiming timing = RequestTiming.start();
+        try {
+            currencyService.convert(request);
+        } finally {
+            timing.stop();
+        }
+
+        assertThat(timing.count(TimingPhase.VALIDATE)).isEqualTo(1);
+        assertThat(timing.count(TimingPhase.CATALOG)).isEqualTo(1);
+        assertThat(timing.count(TimingPhase.RATE)).isEqualTo(1);
+        assertThat(timing.count(TimingPhase.MATH)).isEqualTo(1);
+        assertThat(timing.count(TimingPhase.UPSTREAM)).isZero();
+        assertThat(timing.toServerTiming()).matches("validate;dur=\\d+\\.\\d{3}, catalog;dur=\\d+\\.\\d{3}, rate;dur=\\d+\\.\\d{3}, math;dur=\\d+\\.\\d{3}, app;dur=\\d+\\.\\d{3}");
+    }
+
+    /**
+     * Mock: Configura o mock currencyRepository para devolver três moedas, uma a mais que o tamanho pedido.
+     * Act: Lê uma página de tamanho 2 depois de "BRL", filtrando por prefixo de código e por trecho do nome com curinga.
+     * Assert: Verifica se a consulta recebe o cursor, os padrões escapados e o limite com uma linha extra, e se a
+     * página traz dois itens com o código do último como próximo cursor.
+     */
+
+    @Test
+    void testGetPageUsesKeysetQuery() {
+        when(currencyRepository.findPage(anyString(), anyString(), anyString(), any(Limit.class))).thenReturn(List.of(
+                Currency.builder().id(3L).name("Dólar Americano").code("USD").build(),
+                Currency.builder().id(4L).name("Dólar Turismo").code("USDT").build(),
+                Currency.builder().id(5L).name("Dólar_Antigo").code("USDX").build()));
+
+        CurrencyPageResponse page = currencyService.getPage("BRL", 2, " us ", "Dólar_");
+
+        verify(currencyRepository).findPage("BRL", "US%", "%dólar\\_%", Limit.of(3));
+        assertThat(page.getItems()).extracting(CurrencyItemResponse::getCode).containsExactly("USD", "USDT");
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.getNextCursor()).isEqualTo("USDT");
+    }
+
+    /**
+     * Mock: Configura o mock currencyRepository para devolver menos moedas que o tamanho padrão.
+     * Act: Lê a primeira página sem cursor, tamanho nem filtros.
+     * Assert: Verifica se a consulta começa do início com o tamanho padrão e se a última página não tem próximo cursor.
+     */
+
+    @Test
+    void testGetPageDefaultsAndLastPage() {
+        when(currencyRepository.findPage(anyString(), anyString(), anyString(), any(Limit.class))).thenReturn(List.of(
+                Currency.builder().id(1L).name("Dólar Americano").code("USD").build()));
+
+        CurrencyPageResponse page = currencyService.getPage(null, null, null, "");
+
+        verify(currencyRepository).findPage("", "%", "%", Limit.of(catalogProperties.getDefaultPageSize() + 1));
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    /**
+     * Act: Pede páginas com tamanho zero e acima do máximo configurado.
+     * Assert: Verifica se ambas são rejeitadas com CurrencyException sem consultar o repositório.
+     */
+
+    @Test
+    void testGetPageRejectsInvalidSize() {
+        assertThatThrownBy(() -> currencyService.getPage(null, 0, null, null)).isInstanceOf(CurrencyException.class)
+                .hasMessage("Invalid page size: must be between 1 and 500");
+        assertThatThrownBy(() -> currencyService.getPage(null, 501, null, null)).isInstanceOf(CurrencyException.class);
+
+        verify(currencyRepository, never()).findPage(anyString(), anyString(), anyString(), any(Limit.class));
+    }
+
+    /**
+     * Act: Busca "dolar" sem acento com o limite padrão e pede limites fora do intervalo permitido.
+     * Assert: Verifica se a moeda acentuada é encontrada com id, código e nome, e se os limites inválidos são rejeitados.
+     */
+
+    @Test
+    void testSearch() {
+        List<CurrencyItemResponse> results = currencyService.search("dolar", null);
+
+        assertThat(results).extracting(CurrencyItemResponse::getCode).containsExactly("USD");
+        assertThat(results.get(0).getName()).isEqualTo("Dólar Americano");
+        assertThatThrownBy(() -> currencyService.search("dolar", 0)).isInstanceOf(CurrencyException.class)
+                .hasMessage("Invalid search limit: must be between 1 and 50");
+        assertThatThrownBy(() -> currencyService.search("dolar", 51)).isInstanceOf(CurrencyException.class);
+    }
+
+    /**
+     * Mock: Configura o mock currencyRepository com USD e EUR cadastrados.
+     * Act: Envia em lote uma moeda nova, uma renomeação de USD, EUR sem mudanças, um código repetido, um nome que
+     * pertence ao EUR e uma requisição sem nome.
+     * Assert: Verifica o relatório de cada item na ordem enviada, se só a moeda nova foi gravada (em lote), se USD
+     * foi renomeado e se uma única mudança de catálogo foi publicada.
+     */
+
+    @Test
+    void testUpsertReportsEachItem() {
+        Currency usd = Currency.builder().id(1L).name("Dólar Americano").code("USD").build();
+        Currency eur = Currency.builder().id(2L).name("Euro").code("EUR").build();
+        when(currencyRepository.findByCodeIn(anyCollection())).thenReturn(List.of(usd, eur));
+        when(currencyRepository.findByNormalizedNameIn(anyCollection())).thenReturn(List.of(eur));
+
+        List<CurrencyUpsertItemResponse> report = currencyService.upsert(List.of(
+                currencyRequest("GBP", "Libra Esterlina"),
+                currencyRequest("USD", "Dólar dos Estados Unidos"),
+                currencyRequest("EUR", "Euro"),
+                currencyRequest("GBP", "Libra"),
+                currencyRequest("JPY", " euro "),
+                currencyRequest("CHF", "")));
+
+        assertThat(report).extracting(CurrencyUpsertItemResponse::getCode, CurrencyUpsertItemResponse::getStatus).containsExactly(
+                tuple("GBP", UpsertStatus.CREATED),
+                tuple("USD", UpsertStatus.UPDATED),
+                tuple("EUR", UpsertStatus.UNCHANGED),
+                tuple("GBP", UpsertStatus.CONFLICT),
+                tuple("JPY", UpsertStatus.CONFLICT),
+                tuple("CHF", UpsertStatus.INVALID));
+        assertThat(report.get(1).getId()).isEqualTo(1L);
+        assertThat(report.get(3).getError()).isEqualTo("Duplicate code in request");
+        assertThat(report.get(4).getError()).isEqualTo("Coin already exists");
+        assertThat(usd.getName()).isEqualTo("Dólar dos Estados Unidos");
+        verify(currencyRepository).saveAll(argThat((List<Currency> created) -> created.size() == 1 && created.get(0).getCode().equals("GBP")));
+        verify(currencyRepository).flush();
+        verify(eventPublisher, times(1)).publishEvent(new CurrencyCatalogChangedEvent(null));
+    }
+
+    /**
+     * Mock: Configura o mock currencyRepository com USD e USDT cadastrados com o mesmo nome, como no catálogo inicial.
+     * Act: Reenvia em lote USD e USDT com os nomes atuais e, depois, uma moeda nova com esse mesmo nome.
+     * Assert: Verifica se USD e USDT ficam inalterados, independentemente da ordem, e se só a moeda nova é conflito.
+     */
+
+    @Test
+    void testUpsertKeepsCodesThatShareTheirCurrentName() {
+        Currency usd = Currency.builder().id(1L).name("Dólar Americano").code("USD").build();
+        Currency usdt = Currency.builder().id(2L).name("Dólar Americano").code("USDT").build();
+        when(currencyRepository.findByCodeIn(anyCollection())).thenReturn(List.of(usd, usdt));
+        when(currencyRepository.findByNormalizedNameIn(anyCollection())).thenReturn(List.of(usd, usdt));
+
+        List<CurrencyUpsertItemResponse> report = currencyService.upsert(List.of(
+                currencyRequest("USDT", "Dólar Americano"),
+                currencyRequest("USD", "Dólar Americano"),
+                currencyRequest("USDC", "Dólar Americano")));
+
+        assertThat(report).extracting(CurrencyUpsertItemResponse::getCode, CurrencyUpsertItemResponse::getStatus).containsExactly(
+                tuple("USDT", UpsertStatus.UNCHANGED),
+                tuple("USD", UpsertStatus.UNCHANGED),
+                tuple("USDC", UpsertStatus.CONFLICT));
+        verify(eventPublisher, never()).publishEvent(any(CurrencyCatalogChangedEvent.class));
+    }
+
+    /**
+     * Act: Envia uma lista vazia e uma lista acima do tamanho máximo configurado.
+     * Assert: Verifica se ambas são rejeitadas com CurrencyException sem consultar o repositório.
+     */
+
+    @Test
+    void testUpsertRejectsInvalidBatchSize() {
+        catalogProperties.setMaxBulkSize(1);
+
+        assertThatThrownBy(() -> currencyService.upsert(List.of())).isInstanceOf(CurrencyException.class)
+                .hasMessage("Invalid bulk request: must contain between 1 and 1 currencies");
+        assertThatThrownBy(() -> currencyService.upsert(List.of(currencyRequest("USD", "Dólar"), currencyRequest("EUR", "Euro"))))
+                .isInstanceOf(CurrencyException.class);
+
+        verify(currencyRepository, never()).findByCodeIn(anyCollection());
+    }
+
+    private static CurrencyRequest currencyRequest(String code, String name) {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setCode(code);
+        request.setName(name);
+        return request;
+    }
+
+    /**
+     * Mock: Configura o mock currencyRepository para salvar uma moeda e para não encontrar a moeda a excluir.
+     * Act: Cria uma moeda e tenta excluir uma moeda inexistente.
+     * Assert: Verifica se o timer de operações do catálogo registrou a criação com sucesso e a exclusão como não encontrada.
+     */
+
+    @Test
+    void testCatalogOperationsAreTimed() {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Franco Suíço");
+        request.setCode("CHF");
+        when(currencyRepository.saveAndFlush(any(Currency.class))).thenReturn(Currency.builder().id(5L).build());
+        when(currencyRepository.findById(9L)).thenReturn(Optional.empty());
+
+        currencyService.create(request);
+        assertThatThrownBy(() -> currencyService.delete(9L)).isInstanceOf(CoinNotFoundException.class);
+
+        assertThat(meterRegistry.get(CurrencyMetrics.CATALOG_OPERATIONS).tags("operation", "create", "outcome", CurrencyMetrics.SUCCESS).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CurrencyMetrics.CATALOG_OPERATIONS).tags("operation", "delete", "outcome", CurrencyMetrics.NOT_FOUND).timer().count()).isEqualTo(1);
+    }
 }
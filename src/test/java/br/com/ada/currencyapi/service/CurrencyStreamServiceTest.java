@@ -0,0 +1,118 @@
+package br.com.ada.currencyapi.service;
+
+import br.com.ada.currencyapi.config.ConversionProperties;
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.RateType;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CurrencyStreamServiceTest {
+
+    @Mock
+    private CurrencyService currencyService;
+
+    private CurrencyStreamService currencyStreamService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doCallRealMethod().when(currencyService).validateConvertRequest(any());
+        when(currencyService.resolveRate("USD", "BRL")).thenReturn(
+                ConversionRate.builder().rate(BigDecimal.valueOf(5)).type(RateType.DIRECT).fetchedAt(Instant.now()).build());
+        when(currencyService.resolveRate("XXX", "BRL")).thenThrow(new CoinNotFoundException("Exchange rate not found for BRL to XXX"));
+        currencyStreamService = new CurrencyStreamService(currencyService, new ObjectMapper(), new ConversionArithmetic(new ConversionProperties()));
+    }
+
+    private String convert(String input, CurrencyStreamService.Format format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        currencyStreamService.convert(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output, format);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Arrange: Monta um CSV com cabeçalho, uma linha válida, uma linha com valor inválido e um par desconhecido.
+     * Act: Converte o CSV em fluxo.
+     * Assert: Verifica se cada linha gerou uma linha de resultado, com erro nas linhas problemáticas,
+     * e se a taxa do par repetido foi resolvida apenas uma vez.
+     */
+
+    @Test
+    void testConvertCsv() throws IOException {
+        String output = convert("""
+                from,to,amount
+                USD,BRL,100
+                USD,BRL,abc
+                XXX,BRL,1
+                USD,BRL,2
+                """, CurrencyStreamService.Format.CSV);
+
+        assertThat(output.lines()).containsExactly(
+                "line,from,to,amount,converted,rate_type,error",
+                "2,USD,BRL,100,500.00,DIRECT,",
+                "3,USD,BRL,,,,Invalid ConvertCurrencyRequest",
+                "4,XXX,BRL,1,,,Exchange rate not found for BRL to XXX",
+                "5,USD,BRL,2,10.00,DIRECT,");
+        verify(currencyService, times(1)).resolveRate("USD", "BRL");
+    }
+
+    /**
+     * Arrange: Monta uma entrada NDJSON com uma linha válida, uma linha em branco e uma linha que não é JSON.
+     * Act: Converte a entrada em fluxo.
+     * Assert: Verifica se a linha em branco foi ignorada e se a linha inválida gerou uma linha de erro.
+     */
+
+    @Test
+    void testConvertNdjson() throws IOException {
+        String output = convert("""
+                {"from":"USD","to":"BRL","amount":100}
+
+                not json
+                """, CurrencyStreamService.Format.NDJSON);
+
+        assertThat(output.lines()).containsExactly(
+                "{\"line\":1,\"amount\":500.00,\"rateType\":\"DIRECT\"}",
+                "{\"line\":3,\"error\":\"Invalid ConvertCurrencyRequest\"}");
+    }
+
+    /**
+     * Mock: Configura o currencyService para falhar por indisponibilidade da AwesomeAPI na primeira consulta de EUR-BRL
+     * e devolver a taxa na segunda.
+     * Act: Converte um CSV com duas linhas de EUR-BRL.
+     * Assert: Verifica se só a primeira linha falhou e se a taxa foi consultada de novo na segunda linha.
+     */
+
+    @Test
+    void testTransientFailureIsRetriedOnTheNextLine() throws IOException {
+        when(currencyService.resolveRate("EUR", "BRL"))
+                .thenThrow(new RateSourceUnavailableException("Exchange rate service unavailable for EUR-BRL", null))
+                .thenReturn(ConversionRate.builder().rate(BigDecimal.valueOf(6)).type(RateType.DIRECT).fetchedAt(Instant.now()).build());
+
+        String output = convert("""
+                EUR,BRL,1
+                EUR,BRL,2
+                """, CurrencyStreamService.Format.CSV);
+
+        assertThat(output.lines()).containsExactly(
+                "line,from,to,amount,converted,rate_type,error",
+                "1,EUR,BRL,1,,,Exchange rate service unavailable for EUR-BRL",
+                "2,EUR,BRL,2,12.00,DIRECT,");
+        verify(currencyService, times(2)).resolveRate("EUR", "BRL");
+    }
+}
@@ -0,0 +1,179 @@
+package br.com.ada.currencyapi.service;
+
+import br.com.ada.currencyapi.config.CatalogProperties;
+import br.com.ada.currencyapi.config.ConversionProperties;
+import br.com.ada.currencyapi.config.CrossRateProperties;
+import br.com.ada.currencyapi.config.CurrencyMetricsProperties;
+import br.com.ada.currencyapi.config.RateCacheProperties;
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.domain.ConvertCurrencyResponse;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.domain.RateType;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import br.com.ada.currencyapi.exception.CurrencyException;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import br.com.ada.currencyapi.service.catalog.CurrencyCatalog;
+import br.com.ada.currencyapi.service.catalog.CurrencySearchIndex;
+import br.com.ada.currencyapi.service.conversion.ConversionArithmetic;
+import br.com.ada.currencyapi.service.metrics.CurrencyMetrics;
+import br.com.ada.currencyapi.service.rate.CrossRateEngine;
+import br.com.ada.currencyapi.service.rate.ExchangeRateCache;
+import br.com.ada.currencyapi.service.rate.RateBatchDispatcher;
+import br.com.ada.currencyapi.service.rate.RateSnapshotHolder;
+import br.com.ada.currencyapi.service.rate.ReactiveAwesomeApiRateSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReactiveCurrencyServiceTest {
+
+    @Mock
+    private ReactiveAwesomeApiRateSource rateSource;
+
+    @Mock
+    private RateBatchDispatcher batchDispatcher;
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    private ReactiveCurrencyService reactiveCurrencyService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ExchangeRateCache exchangeRateCache = new ExchangeRateCache(batchDispatcher, new RateCacheProperties(), Runnable::run);
+        RatePrefetchProperties prefetchProperties = new RatePrefetchProperties();
+        CrossRateEngine crossRateEngine = new CrossRateEngine(new RateSnapshotHolder(prefetchProperties), prefetchProperties, new CrossRateProperties());
+        CurrencyService currencyService = new CurrencyService(exchangeRateCache, crossRateEngine, currencyRepository,
+                new CurrencyCatalog(currencyRepository, new ObjectMapper()), event -> {
+        }, new ConversionArithmetic(new ConversionProperties()),
+                new CurrencyMetrics(new SimpleMeterRegistry(), new CurrencyMetricsProperties()), new CatalogProperties(),
+                new CurrencySearchIndex(currencyRepository));
+        reactiveCurrencyService = new ReactiveCurrencyService(currencyService, exchangeRateCache, crossRateEngine, rateSource);
+        when(rateSource.fetch(anyString())).thenReturn(Mono.empty());
+        when(currencyRepository.findAll()).thenReturn(List.of(
+                Currency.builder().id(1L).name("Dólar Americano").code("USD").build(),
+                Currency.builder().id(2L).name("Real Brasileiro").code("BRL").build(),
+                Currency.builder().id(3L).name("Euro").code("EUR").build()));
+    }
+
+    private static ConvertCurrencyRequest request(String from, String to) {
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom(from);
+        request.setTo(to);
+        request.setAmount(BigDecimal.TEN);
+        return request;
+    }
+
+    private static Mono<ExchangeRate> rate(String pair, String value) {
+        return Mono.just(ExchangeRate.builder().pair(pair).rate(new BigDecimal(value)).fetchedAt(Instant.now()).build());
+    }
+
+    /**
+     * Mock: Configura a fonte reativa para retornar a taxa 5 para o par USD-EUR.
+     * Act: Converte 10 USD para EUR duas vezes.
+     * Assert: Verifica se o valor convertido é 50 com taxa direta e se a segunda conversão usou o cache,
+     * consultando a fonte apenas uma vez.
+     */
+
+    @Test
+    void testConvertUsesDirectQuoteAndSharesCache() {
+        when(rateSource.fetch("USD-EUR")).thenReturn(rate("USD-EUR", "5"));
+
+        ConvertCurrencyResponse first = reactiveCurrencyService.convert(request("USD", "EUR")).block();
+        ConvertCurrencyResponse second = reactiveCurrencyService.convert(request("USD", "EUR")).block();
+
+        assertThat(first.getAmount()).isEqualByComparingTo("50");
+        assertThat(first.getRateType()).isEqualTo(RateType.DIRECT);
+        assertThat(second.getAmount()).isEqualByComparingTo("50");
+        verify(rateSource, times(1)).fetch("USD-EUR");
+    }
+
+    /**
+     * Mock: Configura a fonte reativa sem o par USD-EUR, mas com as pernas USD-BRL (6) e EUR-BRL (3).
+     * Act: Converte 10 USD para EUR.
+     * Assert: Verifica se a taxa foi triangulada pela moeda pivô e o valor convertido é 20.
+     */
+
+    @Test
+    void testConvertTriangulatesThroughPivot() {
+        when(rateSource.fetch("USD-BRL")).thenReturn(rate("USD-BRL", "6"));
+        when(rateSource.fetch("EUR-BRL")).thenReturn(rate("EUR-BRL", "3"));
+
+        ConvertCurrencyResponse response = reactiveCurrencyService.convert(request("USD", "EUR")).block();
+
+        assertThat(response.getAmount()).isEqualByComparingTo("20");
+        assertThat(response.getRateType()).isEqualTo(RateType.TRIANGULATED);
+    }
+
+    /**
+     * Act: Converte um par sem cotação direta nem pernas pela moeda pivô.
+     * Assert: Verifica se a conversão falha com CoinNotFoundException e a mensagem esperada.
+     */
+
+    @Test
+    void testConvertFailsWhenRateIsUnknown() {
+        assertThatThrownBy(() -> reactiveCurrencyService.convert(request("USD", "EUR")).block())
+                .isInstanceOf(CoinNotFoundException.class)
+                .hasMessage("Exchange rate not found for EUR to USD");
+    }
+
+    /**
+     * Act: Converte duas vezes um par cuja cotação direta e pernas não existem na fonte.
+     * Assert: Verifica se as duas conversões falham e se a segunda não voltou a consultar a fonte para os pares desconhecidos.
+     */
+
+    @Test
+    void testConvertDoesNotRetryPairReportedUnknown() {
+        assertThatThrownBy(() -> reactiveCurrencyService.convert(request("USD", "EUR")).block())
+                .isInstanceOf(CoinNotFoundException.class);
+        assertThatThrownBy(() -> reactiveCurrencyService.convert(request("USD", "EUR")).block())
+                .isInstanceOf(CoinNotFoundException.class);
+
+        verify(rateSource, times(1)).fetch("USD-EUR");
+        verify(rateSource, times(1)).fetch("USD-BRL");
+        verify(rateSource, times(1)).fetch("EUR-BRL");
+    }
+
+    /**
+     * Act: Converte de uma moeda que não está no catálogo local.
+     * Assert: Verifica se a conversão falha com CoinNotFoundException sem consultar a fonte.
+     */
+
+    @Test
+    void testConvertRejectsCodeOutsideCatalog() {
+        assertThatThrownBy(() -> reactiveCurrencyService.convert(request("XYZ", "EUR")).block())
+                .isInstanceOf(CoinNotFoundException.class)
+                .hasMessage("Exchange rate not found for EUR to XYZ");
+
+        verify(rateSource, never()).fetch(anyString());
+    }
+
+    /**
+     * Act: Converte uma requisição sem moeda de destino.
+     * Assert: Verifica se a validação compartilhada com o CurrencyService rejeita a requisição sem consultar a fonte.
+     */
+
+    @Test
+    void testConvertRejectsInvalidRequest() {
+        assertThatThrownBy(() -> reactiveCurrencyService.convert(request("USD", null)).block())
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Invalid ConvertCurrencyRequest");
+        verifyNoInteractions(rateSource);
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.domain.CurrencyRequest;
+import br.com.ada.currencyapi.domain.CurrencyUpsertItemResponse;
+import br.com.ada.currencyapi.domain.UpsertStatus;
+import br.com.ada.currencyapi.exception.CurrencyException;
+import br.com.ada.currencyapi.service.CurrencyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "currency.rate-prefetch.enabled=false")
+class CurrencyCatalogIntegrationTest {
+
+    @Autowired
+    private CurrencyService currencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Act: Cria uma moeda pelo serviço, lê o catálogo, remove a moeda e lê o catálogo de novo.
+     * Assert: Verifica se o catálogo foi reconstruído após o commit de cada operação.
+     */
+
+    @Test
+    void testCatalogIsRebuiltAfterCommit() {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Moeda de Teste do Catálogo");
+        request.setCode("ZZC");
+
+        Long id = currencyService.create(request);
+        assertThat(currencyService.get()).extracting("label").contains("ZZC - Moeda de Teste do Catálogo");
+
+        currencyService.delete(id);
+        assertThat(currencyService.getCurrencies()).extracting("label").doesNotContain("ZZC - Moeda de Teste do Catálogo");
+    }
+
+    /**
+     * Act: Cria uma moeda com nome acentuado, renomeia e remove, buscando sem acento depois de cada operação.
+     * Assert: Verifica se o índice de busca acompanha cada commit.
+     */
+
+    @Test
+    void testSearchIndexFollowsCommits() {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("Peça de Teste da Busca");
+        request.setCode("ZZS");
+
+        Long id = currencyService.create(request);
+        assertThat(currencyService.search("peca de tes", null)).extracting("code").containsExactly("ZZS");
+
+        request.setName("Ficha de Teste da Busca");
+        currencyService.update(id, request);
+        assertThat(currencyService.search("peca de tes", null)).isEmpty();
+        assertThat(currencyService.search("ficha", null)).extracting("code").containsExactly("ZZS");
+
+        currencyService.delete(id);
+        assertThat(currencyService.search("zzs", null)).isEmpty();
+    }
+
+    /**
+     * Act: Envia em lote duas moedas novas e, depois, uma renomeação e uma moeda com o nome de outra já cadastrada.
+     * Assert: Verifica o relatório de cada envio e se o catálogo e a busca refletem as mudanças após o commit.
+     */
+
+    @Test
+    void testBulkUpsertIsCommittedAndIndexed() {
+        List<CurrencyUpsertItemResponse> first = currencyService.upsert(List.of(
+                currencyRequest("ZB1", "Moeda em Lote Um"),
+                currencyRequest("ZB2", "Moeda em Lote Dois")));
+
+        assertThat(first).extracting("status").containsExactly(UpsertStatus.CREATED, UpsertStatus.CREATED);
+        assertThat(first).extracting("id").doesNotContainNull();
+        assertThat(currencyService.search("moeda em lote", null)).extracting("code").containsExactly("ZB1", "ZB2");
+
+        List<CurrencyUpsertItemResponse> second = currencyService.upsert(List.of(
+                currencyRequest("ZB1", "Moeda em Lote Renomeada"),
+                currencyRequest("ZB3", "Euro")));
+
+        assertThat(second).extracting("status").containsExactly(UpsertStatus.UPDATED, UpsertStatus.CONFLICT);
+        assertThat(second.get(0).getId()).isEqualTo(first.get(0).getId());
+        assertThat(currencyService.get()).extracting("label").contains("ZB1 - Moeda em Lote Renomeada");
+        assertThat(currencyService.search("zb", null)).extracting("code").containsExactly("ZB1", "ZB2");
+
+        currencyService.delete(first.get(0).getId());
+        currencyService.delete(first.get(1).getId());
+    }
+
+    /**
+     * Act: Reenvia em lote, com os nomes atuais, as moedas do catálogo inicial que compartilham nome com outros códigos.
+     * Assert: Verifica se todas são informadas como inalteradas.
+     */
+
+    @Test
+    void testBulkUpsertOfUnchangedSeedRowsSharingNames() {
+        List<CurrencyUpsertItemResponse> report = currencyService.upsert(List.of(
+                currencyRequest("USD", "Dólar Americano"),
+                currencyRequest("USDT", "Dólar Americano"),
+                currencyRequest("RUB", "Rublo Russo"),
+                currencyRequest("RUBTOD", "Rublo Russo"),
+                currencyRequest("RUBTOM", "Rublo Russo"),
+                currencyRequest("CHF", "Franco Suíço"),
+                currencyRequest("CHFRTS", "Franco Suíço")));
+
+        assertThat(report).extracting("status").containsOnly(UpsertStatus.UNCHANGED);
+    }
+
+    private static CurrencyRequest currencyRequest(String code, String name) {
+        CurrencyRequest request = new CurrencyRequest();
+        request.setCode(code);
+        request.setName(name);
+        return request;
+    }
+
+    /**
+     * Act: Lê a coluna normalized_name criada pela migração e tenta criar uma moeda com um nome já cadastrado em outra caixa.
+     * Assert: Verifica se a coluna guarda o nome normalizado e se a criação é recusada com "Coin already exists".
+     */
+
+    @Test
+    void testNormalizedNameColumnAndDuplicateCheck() {
+        String normalized = jdbcTemplate.queryForObject(
+                "SELECT normalized_name FROM currency WHERE code = 'EUR'", String.class);
+        assertThat(normalized).isEqualTo(CurrencyCatalogView.normalizeName("Euro"));
+
+        CurrencyRequest request = new CurrencyRequest();
+        request.setName("EURO");
+        request.setCode("ZZE");
+
+        assertThatThrownBy(() -> currencyService.create(request))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage("Coin already exists");
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CurrencyCatalogTest {
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    private CurrencyCatalog currencyCatalog;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        currencyCatalog = new CurrencyCatalog(currencyRepository, new ObjectMapper());
+    }
+
+    private static Currency currency(long id, String code, String name) {
+        return Currency.builder().id(id).code(code).name(name).build();
+    }
+
+    /**
+     * Mock: Configura o repositório com a moeda USD.
+     * Act: Lê a visão do catálogo três vezes.
+     * Assert: Verifica se os rótulos e o JSON foram montados uma única vez, com uma só consulta ao repositório,
+     * e se todas as leituras devolvem a mesma visão.
+     */
+
+    @Test
+    void testViewIsBuiltOnceAndReused() {
+        when(currencyRepository.findAll()).thenReturn(List.of(currency(1, "USD", "Dólar Americano")));
+
+        CurrencyCatalogView first = currencyCatalog.view();
+        currencyCatalog.view();
+        CurrencyCatalogView third = currencyCatalog.view();
+
+        assertThat(third).isSameAs(first);
+        assertThat(first.getCurrencies()).extracting("label").containsExactly("USD - Dólar Americano");
+        assertThat(new String(first.getJson(), StandardCharsets.UTF_8)).isEqualTo("[{\"label\":\"USD - Dólar Americano\"}]");
+        verify(currencyRepository, times(1)).findAll();
+    }
+
+    /**
+     * Arrange: Monta a visão com a moeda USD e passa a devolver também EUR no repositório.
+     * Act: Publica a mudança no catálogo.
+     * Assert: Verifica se uma nova visão com as duas moedas foi trocada e se a visão anterior continua intacta.
+     */
+
+    @Test
+    void testCatalogChangeSwapsInRebuiltView() {
+        when(currencyRepository.findAll())
+                .thenReturn(List.of(currency(1, "USD", "Dólar Americano")))
+                .thenReturn(List.of(currency(1, "USD", "Dólar Americano"), currency(2, "EUR", "Euro")));
+        CurrencyCatalogView before = currencyCatalog.view();
+
+        currencyCatalog.onCatalogChanged(new CurrencyCatalogChangedEvent(2L));
+        CurrencyCatalogView after = currencyCatalog.view();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getCurrencies()).extracting("label").containsExactly("USD - Dólar Americano", "EUR - Euro");
+        assertThat(before.getCurrencies()).extracting("label").containsExactly("USD - Dólar Americano");
+    }
+
+    /**
+     * Arrange: Monta a visão com a moeda USD, republica a mesma lista e depois passa a devolver também EUR.
+     * Act: Publica duas mudanças no catálogo.
+     * Assert: Verifica se o ETag é forte, se continua igual quando o conteúdo não muda e se muda quando o catálogo muda.
+     */
+
+    @Test
+    void testEtagFollowsCatalogContent() {
+        when(currencyRepository.findAll())
+                .thenReturn(List.of(currency(1, "USD", "Dólar Americano")))
+                .thenReturn(List.of(currency(1, "USD", "Dólar Americano")))
+                .thenReturn(List.of(currency(1, "USD", "Dólar Americano"), currency(2, "EUR", "Euro")));
+        String original = currencyCatalog.view().getEtag();
+
+        currencyCatalog.onCatalogChanged(new CurrencyCatalogChangedEvent(1L));
+        String unchanged = currencyCatalog.view().getEtag();
+        currencyCatalog.onCatalogChanged(new CurrencyCatalogChangedEvent(2L));
+        String changed = currencyCatalog.view().getEtag();
+
+        assertThat(original).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+        assertThat(unchanged).isEqualTo(original);
+        assertThat(changed).isNotEqualTo(original);
+    }
+
+    /**
+     * Mock: Configura o repositório com USD e USDT, que compartilham o nome "Dólar Americano", e com EUR.
+     * Act: Consulta a visão do catálogo por código e por nome com caixa e espaços diferentes.
+     * Assert: Verifica se os índices em memória encontram as moedas sem novas consultas ao repositório.
+     */
+
+    @Test
+    void testViewIndexesCurrenciesByCodeAndNormalizedName() {
+        when(currencyRepository.findAll()).thenReturn(List.of(
+                currency(1, "USD", "Dólar Americano"), currency(2, "USDT", "Dólar Americano"), currency(3, "EUR", "Euro")));
+
+        CurrencyCatalogView view = currencyCatalog.view();
+
+        assertThat(view.findByCode("EUR").getId()).isEqualTo(3L);
+        assertThat(view.findByCode("GBP")).isNull();
+        assertThat(view.findByName("  DÓLAR americano ")).extracting("code").containsExactlyInAnyOrder("USD", "USDT");
+        assertThat(view.findByName("Libra Esterlina")).isEmpty();
+        verify(currencyRepository, times(1)).findAll();
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.ada.currencyapi.service.catalog;
+
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CurrencySearchIndexTest {
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    private CurrencySearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        searchIndex = new CurrencySearchIndex(currencyRepository);
+        when(currencyRepository.findAll()).thenReturn(List.of(
+                currency(1, "AUD", "Dólar Australiano"),
+                currency(2, "BRL", "Real Brasileiro"),
+                currency(3, "BRLT", "Real Brasileiro Turismo"),
+                currency(4, "USD", "Dólar Americano"),
+                currency(5, "REAL", "Moeda Fictícia")));
+    }
+
+    private static Currency currency(long id, String code, String name) {
+        return Currency.builder().id(id).code(code).name(name).build();
+    }
+
+    private List<String> codes(String query, int limit) {
+        return searchIndex.search(query, limit).stream().map(Currency::getCode).toList();
+    }
+
+    /**
+     * Act: Remove acentos, caixa e pontuação de alguns textos.
+     * Assert: Verifica se todos ficam em minúsculas, sem diacríticos e com um único espaço entre as palavras.
+     */
+
+    @Test
+    void testFold() {
+        assertThat(CurrencySearchIndex.fold("  Dólar-Australiano ")).isEqualTo("dolar australiano");
+        assertThat(CurrencySearchIndex.fold("Colón  Costarriquenho")).isEqualTo("colon costarriquenho");
+        assertThat(CurrencySearchIndex.fold("ÇÃO")).isEqualTo("cao");
+        assertThat(CurrencySearchIndex.fold(null)).isEmpty();
+    }
+
+    /**
+     * Act: Busca por textos sem acento que só aparecem no início do nome ou em uma palavra seguinte.
+     * Assert: Verifica se os nomes acentuados são encontrados e se uma consulta com várias palavras casa com o resto
+     * do nome.
+     */
+
+    @Test
+    void testSearchIsAccentInsensitiveAndMatchesLaterWords() {
+        assertThat(codes("dolar", 10)).containsExactly("AUD", "USD");
+        assertThat(codes("DOLAR AUS", 10)).containsExactly("AUD");
+        assertThat(codes("austr", 10)).containsExactly("AUD");
+        assertThat(codes("brasileiro tur", 10)).containsExactly("BRLT");
+        assertThat(codes("ficticia", 10)).containsExactly("REAL");
+        assertThat(codes("xyz", 10)).isEmpty();
+        assertThat(codes("  ", 10)).isEmpty();
+    }
+
+    /**
+     * Act: Busca por "real", que é um código exato, prefixo de dois nomes, e por "brl", código exato e prefixo de outro código.
+     * Assert: Verifica se o código exato vem primeiro, seguido dos prefixos de código e de nome, e se o limite é respeitado.
+     */
+
+    @Test
+    void testResultsAreRankedAndLimited() {
+        assertThat(codes("real", 10)).containsExactly("REAL", "BRL", "BRLT");
+        assertThat(codes("brl", 10)).containsExactly("BRL", "BRLT");
+        assertThat(codes("real", 2)).containsExactly("REAL", "BRL");
+    }
+
+    /**
+     * Mock: Configura o repositório para devolver uma moeda renomeada, uma nova e nenhuma para a removida.
+     * Act: Carrega o índice e aplica os três eventos de alteração do catálogo.
+     * Assert: Verifica se o índice reflete cada mudança relendo só a moeda alterada, sem nova carga completa.
+     */
+
+    @Test
+    void testCatalogChangesPatchTheIndex() {
+        searchIndex.warmUp();
+        when(currencyRepository.findById(4L)).thenReturn(Optional.of(currency(4, "USD", "Dólar dos EUA")));
+        when(currencyRepository.findById(6L)).thenReturn(Optional.of(currency(6, "EUR", "Euro")));
+        when(currencyRepository.findById(1L)).thenReturn(Optional.empty());
+
+        searchIndex.onCatalogChanged(new CurrencyCatalogChangedEvent(4L));
+        searchIndex.onCatalogChanged(new CurrencyCatalogChangedEvent(6L));
+        searchIndex.onCatalogChanged(new CurrencyCatalogChangedEvent(1L));
+
+        assertThat(codes("americano", 10)).isEmpty();
+        assertThat(codes("eua", 10)).containsExactly("USD");
+        assertThat(codes("eu", 10)).containsExactly("EUR", "USD");
+        assertThat(codes("dolar", 10)).containsExactly("USD");
+        verify(currencyRepository, times(1)).findAll();
+    }
+
+    /**
+     * Act: Aplica um evento de alteração antes da primeira busca.
+     * Assert: Verifica se o evento não consulta o repositório e se a primeira busca carrega o catálogo inteiro.
+     */
+
+    @Test
+    void testChangesBeforeFirstLoadAreLeftToTheLoad() {
+        searchIndex.onCatalogChanged(new CurrencyCatalogChangedEvent(4L));
+
+        verify(currencyRepository, never()).findById(anyLong());
+        assertThat(codes("usd", 10)).containsExactly("USD");
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.ada.currencyapi.service.conversion;
+
+import br.com.ada.currencyapi.config.ConversionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConversionArithmeticTest {
+
+    private static final String[] TARGETS = {"BRL", "JPY", "KWD", "BTC", "XAU"};
+
+    private ConversionProperties properties;
+
+    private ConversionArithmetic arithmetic;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConversionProperties();
+        properties.setFractionDigits(Map.of("BTC", 8));
+        arithmetic = new ConversionArithmetic(properties);
+    }
+
+    private BigDecimal expected(BigDecimal amount, BigDecimal rate, String to) {
+        return amount.multiply(rate).setScale(arithmetic.fractionDigits(to), properties.getRoundingMode());
+    }
+
+    /**
+     * Act: Consulta as casas decimais de moedas ISO, de uma moeda configurada e de códigos desconhecidos pelo JDK.
+     * Assert: Verifica se o padrão ISO 4217 é usado, se a configuração tem precedência e se o padrão configurado cobre
+     * os demais códigos.
+     */
+
+    @Test
+    void testFractionDigits() {
+        assertThat(arithmetic.fractionDigits("BRL")).isEqualTo(2);
+        assertThat(arithmetic.fractionDigits("JPY")).isZero();
+        assertThat(arithmetic.fractionDigits("KWD")).isEqualTo(3);
+        assertThat(arithmetic.fractionDigits("BTC")).isEqualTo(8);
+        assertThat(arithmetic.fractionDigits("XAU")).isEqualTo(2);
+        assertThat(arithmetic.fractionDigits("DOGE")).isEqualTo(2);
+    }
+
+    /**
+     * Arrange: Gera valores e taxas aleatórios, com escalas e sinais variados.
+     * Act: Converte cada par em todas as moedas de destino e em todos os modos de arredondamento exceto UNNECESSARY.
+     * Assert: Verifica se o resultado em ponto fixo é idêntico, inclusive na escala, ao cálculo com BigDecimal.
+     */
+
+    @Test
+    void testMatchesBigDecimalForRandomValues() {
+        Random random = new Random(42);
+        for (RoundingMode roundingMode : RoundingMode.values()) {
+            if (roundingMode == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            properties.setRoundingMode(roundingMode);
+            for (int i = 0; i < 5_000; i++) {
+                BigDecimal amount = BigDecimal.valueOf(random.nextLong(-10_000_000_000L, 10_000_000_000L), random.nextInt(0, 5));
+                BigDecimal rate = BigDecimal.valueOf(random.nextLong(1, 100_000_000_000L), random.nextInt(0, 17));
+                String to = TARGETS[random.nextInt(TARGETS.length)];
+
+                assertThat(arithmetic.convert(amount, rate, to))
+                        .as("%s * %s to %s (%s)", amount, rate, to, roundingMode)
+                        .isEqualTo(expected(amount, rate, to));
+            }
+        }
+    }
+
+    /**
+     * Arrange: Monta valores cujo resto fica exatamente na metade da unidade mínima, positivos e negativos.
+     * Act: Converte para BRL com HALF_EVEN, HALF_UP e HALF_DOWN.
+     * Assert: Verifica se os empates seguem o modo configurado como no BigDecimal.
+     */
+
+    @Test
+    void testTiesFollowTheRoundingMode() {
+        for (RoundingMode roundingMode : new RoundingMode[]{RoundingMode.HALF_EVEN, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN}) {
+            properties.setRoundingMode(roundingMode);
+            for (String amount : new String[]{"0.125", "0.135", "-0.125", "-0.135"}) {
+                assertThat(arithmetic.convert(new BigDecimal(amount), BigDecimal.ONE, "BRL"))
+                        .isEqualTo(expected(new BigDecimal(amount), BigDecimal.ONE, "BRL"));
+            }
+        }
+        properties.setRoundingMode(RoundingMode.HALF_EVEN);
+        assertThat(arithmetic.convert(new BigDecimal("0.125"), BigDecimal.ONE, "BRL")).isEqualTo(new BigDecimal("0.12"));
+        assertThat(arithmetic.convert(new BigDecimal("0.135"), BigDecimal.ONE, "BRL")).isEqualTo(new BigDecimal("0.14"));
+    }
+
+    /**
+     * Arrange: Monta produtos que não cabem em um long, taxas com mais de 18 dígitos e reescalas maiores que 10^18.
+     * Act: Converte cada caso.
+     * Assert: Verifica se o cálculo recorre ao BigDecimal e devolve o mesmo resultado.
+     */
+
+    @Test
+    void testFallsBackToBigDecimalOnOverflow() {
+        BigDecimal large = new BigDecimal("999999999999999999");
+        BigDecimal preciseRate = new BigDecimal("5.1234567890123456789");
+        BigDecimal tinyRate = new BigDecimal("1E-20");
+        BigDecimal scaledUp = new BigDecimal("1E+17");
+
+        assertThat(ScaledRate.of(preciseRate).fixedPoint()).isFalse();
+        assertThat(arithmetic.convert(large, new BigDecimal("123.45"), "BRL")).isEqualTo(expected(large, new BigDecimal("123.45"), "BRL"));
+        assertThat(arithmetic.convert(BigDecimal.TEN, preciseRate, "BRL")).isEqualTo(expected(BigDecimal.TEN, preciseRate, "BRL"));
+        assertThat(arithmetic.convert(BigDecimal.TEN, tinyRate, "BTC")).isEqualTo(expected(BigDecimal.TEN, tinyRate, "BTC"));
+        assertThat(arithmetic.convert(scaledUp, BigDecimal.valueOf(500), "BTC")).isEqualTo(expected(scaledUp, BigDecimal.valueOf(500), "BTC"));
+    }
+
+    /**
+     * Arrange: Configura o modo de arredondamento UNNECESSARY.
+     * Act: Converte um valor exato e outro que exigiria arredondamento.
+     * Assert: Verifica se o valor exato é devolvido e se o outro lança ArithmeticException, como no BigDecimal.
+     */
+
+    @Test
+    void testUnnecessaryRoundingRejectsInexactResults() {
+        properties.setRoundingMode(RoundingMode.UNNECESSARY);
+
+        assertThat(arithmetic.convert(new BigDecimal("2.5"), new BigDecimal("4"), "BRL")).isEqualTo(new BigDecimal("10.00"));
+        assertThatThrownBy(() -> arithmetic.convert(new BigDecimal("1.005"), BigDecimal.ONE, "BRL"))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.ada.currencyapi.service.jfr;
+
+import br.com.ada.currencyapi.config.FlightRecorderProperties;
+import br.com.ada.currencyapi.domain.ConvertCurrencyRequest;
+import br.com.ada.currencyapi.domain.FlightRecordingResponse;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecorderServiceTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecorderService flightRecorderService;
+
+    @BeforeEach
+    void setUp() {
+        FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setSettings("default");
+        properties.setDumpDirectory(dumpDirectory);
+        flightRecorderService = new FlightRecorderService(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecorderService.closeRecording();
+    }
+
+    /**
+     * Act: Inicia uma gravação, emite um evento de cada tipo e para a gravação.
+     * Assert: Verifica se o arquivo gerado fica no diretório configurado e contém os três eventos com os campos
+     * preenchidos.
+     */
+
+    @Test
+    void testStopDumpsTheCurrencyEvents() throws Exception {
+        flightRecorderService.start(null);
+
+        ConvertCurrencyRequest request = new ConvertCurrencyRequest();
+        request.setFrom("USD");
+        request.setTo("BRL");
+        request.setAmount(BigDecimal.TEN);
+        ConversionEvent conversion = new ConversionEvent();
+        conversion.begin();
+        conversion.end(request, null, new CoinNotFoundException("missing"));
+        UpstreamFetchEvent upstream = new UpstreamFetchEvent();
+        upstream.begin();
+        upstream.end("USD-BRL,EUR-BRL", 200, "success");
+        CatalogMutationEvent mutation = new CatalogMutationEvent();
+        mutation.begin();
+        mutation.end("create", 7L, "USD", null);
+
+        FlightRecordingResponse stopped = flightRecorderService.stop();
+
+        Path file = Path.of(stopped.getDumpFile());
+        assertThat(file).startsWith(dumpDirectory.toAbsolutePath()).exists();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("br.com.ada.currencyapi."))
+                .toList();
+        assertThat(events).extracting(event -> event.getEventType().getName()).containsExactlyInAnyOrder(
+                "br.com.ada.currencyapi.Conversion", "br.com.ada.currencyapi.UpstreamFetch", "br.com.ada.currencyapi.CatalogMutation");
+        RecordedEvent recordedConversion = events.stream().filter(event -> event.hasField("amount")).findFirst().orElseThrow();
+        assertThat(recordedConversion.getString("from")).isEqualTo("USD");
+        assertThat(recordedConversion.getString("outcome")).isEqualTo("not_found");
+        RecordedEvent recordedFetch = events.stream().filter(event -> event.hasField("pairs")).findFirst().orElseThrow();
+        assertThat(recordedFetch.getInt("status")).isEqualTo(200);
+        assertThat(flightRecorderService.status().getState()).isEqualTo(FlightRecorderService.NOT_RUNNING);
+    }
+
+    /**
+     * Act: Inicia uma gravação e pede um dump sem pará-la.
+     * Assert: Verifica se o arquivo é gerado e se a gravação continua em execução.
+     */
+
+    @Test
+    void testDumpKeepsRecording() {
+        flightRecorderService.start("profile");
+
+        FlightRecordingResponse dumped = flightRecorderService.dump();
+
+        assertThat(Files.exists(Path.of(dumped.getDumpFile()))).isTrue();
+        assertThat(dumped.getState()).isEqualTo("RUNNING");
+        assertThat(dumped.getSettings()).isEqualTo("profile");
+    }
+
+    /**
+     * Act: Tenta parar sem gravação ativa, iniciar com configurações inexistentes e iniciar duas vezes.
+     * Assert: Verifica se cada operação inválida é rejeitada.
+     */
+
+    @Test
+    void testInvalidTransitionsAreRejected() {
+        assertThatThrownBy(() -> flightRecorderService.stop()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> flightRecorderService.start("missing")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown flight recorder settings: missing");
+
+        flightRecorderService.start(null);
+
+        assertThatThrownBy(() -> flightRecorderService.start(null)).isInstanceOf(IllegalStateException.class);
+    }
+}
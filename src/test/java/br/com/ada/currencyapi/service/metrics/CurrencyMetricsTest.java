@@ -0,0 +1,109 @@
+package br.com.ada.currencyapi.service.metrics;
+
+import br.com.ada.currencyapi.config.CurrencyMetricsProperties;
+import br.com.ada.currencyapi.exception.CoinNotFoundException;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrencyMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    private CurrencyMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        CurrencyMetricsProperties properties = new CurrencyMetricsProperties();
+        properties.setMaxPairTags(2);
+        metrics = new CurrencyMetrics(registry, properties);
+    }
+
+    /**
+     * Arrange: Limita as tags de par a duas.
+     * Act: Registra conversões de quatro pares distintos, repetindo um dos dois primeiros depois do limite.
+     * Assert: Verifica se os dois primeiros pares mantêm a própria tag, se os demais são contados em "other" e se o
+     * número de contadores não cresce com os pares novos.
+     */
+
+    @Test
+    void testPairTagsAreCapped() {
+        metrics.recordConversion("USD", "BRL", null);
+        metrics.recordConversion("EUR", "BRL", null);
+        metrics.recordConversion("JPY", "BRL", null);
+        metrics.recordConversion("GBP", "BRL", null);
+        metrics.recordConversion("USD", "BRL", null);
+
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tag("pair", "USD-BRL").counter().count()).isEqualTo(2);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tag("pair", "EUR-BRL").counter().count()).isEqualTo(1);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tag("pair", CurrencyMetrics.OTHER_PAIR).counter().count()).isEqualTo(2);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).counters()).extracting(Counter::getId).hasSize(3);
+    }
+
+    /**
+     * Arrange: Limita as tags de par a duas.
+     * Act: Registra centenas de conversões de pares inválidos que falharam e, depois, conversões bem-sucedidas de
+     * dois pares reais, seguidas de uma falha em um deles.
+     * Assert: Verifica se as falhas foram contadas em "other" sem consumir o limite, se os pares reais recebem a
+     * própria tag e se a falha posterior de um par com tag é contada nele.
+     */
+
+    @Test
+    void testFailedPairsDoNotUseUpTheTagBudget() {
+        for (int i = 0; i < 500; i++) {
+            metrics.recordConversion("X" + i, "BRL", new CoinNotFoundException("Exchange rate not found"));
+        }
+
+        metrics.recordConversion("USD", "BRL", null);
+        metrics.recordConversion("EUR", "BRL", null);
+        metrics.recordConversion("USD", "BRL", new CoinNotFoundException("Exchange rate not found"));
+
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tags("pair", CurrencyMetrics.OTHER_PAIR, "outcome", CurrencyMetrics.NOT_FOUND)
+                .counter().count()).isEqualTo(500);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tags("pair", "USD-BRL", "outcome", CurrencyMetrics.SUCCESS).counter().count()).isEqualTo(1);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tags("pair", "EUR-BRL", "outcome", CurrencyMetrics.SUCCESS).counter().count()).isEqualTo(1);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tags("pair", "USD-BRL", "outcome", CurrencyMetrics.NOT_FOUND).counter().count()).isEqualTo(1);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).counters()).extracting(Counter::getId).hasSize(4);
+    }
+
+    /**
+     * Act: Registra conversões que falharam por indisponibilidade da AwesomeAPI e por um erro inesperado.
+     * Assert: Verifica se cada falha é classificada no resultado correspondente.
+     */
+
+    @Test
+    void testFailuresAreClassified() {
+        metrics.recordConversion("USD", "BRL", new RateSourceUnavailableException("down", null));
+        metrics.recordConversion("USD", "BRL", new IllegalStateException("boom"));
+
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tag("outcome", CurrencyMetrics.UPSTREAM_ERROR).counter().count()).isEqualTo(1);
+        assertThat(registry.get(CurrencyMetrics.CONVERSIONS).tag("outcome", CurrencyMetrics.ERROR).counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Act: Registra chamadas à AwesomeAPI com status 200, 404 e 503.
+     * Assert: Verifica se o timer separa os resultados, acumula a latência e publica percentis.
+     */
+
+    @Test
+    void testUpstreamCallsAreTimedWithPercentiles() {
+        metrics.recordUpstream("feign", CurrencyMetrics.upstreamOutcome(200), TimeUnit.MILLISECONDS.toNanos(40));
+        metrics.recordUpstream("feign", CurrencyMetrics.upstreamOutcome(404), TimeUnit.MILLISECONDS.toNanos(10));
+        metrics.recordUpstream("feign", CurrencyMetrics.upstreamOutcome(503), TimeUnit.MILLISECONDS.toNanos(10));
+
+        Timer success = registry.get(CurrencyMetrics.UPSTREAM_REQUESTS).tags("client", "feign", "outcome", CurrencyMetrics.SUCCESS).timer();
+        assertThat(success.count()).isEqualTo(1);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+        assertThat(success.takeSnapshot().percentileValues()).hasSize(3);
+        assertThat(registry.get(CurrencyMetrics.UPSTREAM_REQUESTS).tag("outcome", CurrencyMetrics.NOT_FOUND).timer().count()).isEqualTo(1);
+        assertThat(registry.get(CurrencyMetrics.UPSTREAM_REQUESTS).tag("outcome", CurrencyMetrics.ERROR).timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RateCircuitBreakerConfig;
+import br.com.ada.currencyapi.config.RateCircuitBreakerProperties;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import br.com.ada.currencyapi.repository.feign.AwesomeAPIClient;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AwesomeApiRateSourceTest {
+
+    private static final int CALLERS = 64;
+
+    @Mock
+    private AwesomeAPIClient awesomeApiClient;
+
+    private AwesomeApiRateSource rateSource;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        RateCircuitBreakerProperties circuitBreakerProperties = new RateCircuitBreakerProperties();
+        circuitBreakerProperties.setSlidingWindowSize(4);
+        circuitBreakerProperties.setMinimumNumberOfCalls(4);
+        rateSource = new AwesomeApiRateSource(awesomeApiClient, new RateCircuitBreakerConfig().awesomeApiCircuitBreaker(circuitBreakerProperties));
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static ExchangeRate quote(String pair, BigDecimal rate) {
+        return ExchangeRate.builder().pair(pair).rate(rate).fetchedAt(Instant.now()).build();
+    }
+
+    /**
+     * Mock: Configura o awesomeApiClient para segurar a resposta até que todas as threads tenham disparado a consulta.
+     * Act: Dispara 64 consultas concorrentes para o par USD-BRL.
+     * Assert: Verifica se todas receberam a mesma taxa e se apenas uma chamada foi feita à API externa.
+     */
+
+    @Test
+    void testConcurrentFetchesForSamePairCallUpstreamOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExchangeRate response = quote("USD-BRL", BigDecimal.valueOf(5));
+        when(awesomeApiClient.getLastCurrency("USD-BRL")).thenAnswer(invocation -> {
+            release.await();
+            return Map.of("USD-BRL", response);
+        });
+
+        List<Future<ExchangeRate>> results = submitConcurrently(() -> rateSource.fetch("USD-BRL"));
+        release.countDown();
+
+        for (Future<ExchangeRate> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getRate()).isEqualTo(BigDecimal.valueOf(5));
+        }
+        verify(awesomeApiClient, times(1)).getLastCurrency("USD-BRL");
+    }
+
+    /**
+     * Mock: Configura o awesomeApiClient para segurar a chamada e então lançar FeignException.NotFound.
+     * Act: Dispara 64 consultas concorrentes para um par inexistente.
+     * Assert: Verifica se todas as threads receberam a mesma exceção e se apenas uma chamada foi feita à API externa.
+     */
+
+    @Test
+    void testConcurrentFetchesShareUpstreamException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FeignException.NotFound notFound = new FeignException.NotFound("not found",
+                Request.create(Request.HttpMethod.GET, "/last/XXX-BRL", Map.of(), null, StandardCharsets.UTF_8, null),
+                null, null);
+        when(awesomeApiClient.getLastCurrency("XXX-BRL")).thenAnswer(invocation -> {
+            release.await();
+            throw notFound;
+        });
+
+        List<Future<ExchangeRate>> results = submitConcurrently(() -> rateSource.fetch("XXX-BRL"));
+        release.countDown();
+
+        for (Future<ExchangeRate> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isSameAs(notFound);
+                continue;
+            }
+            throw new AssertionError("Expected FeignException.NotFound");
+        }
+        verify(awesomeApiClient, times(1)).getLastCurrency("XXX-BRL");
+    }
+
+    /**
+     * Mock: Configura o awesomeApiClient para retornar uma taxa diferente a cada chamada.
+     * Act: Consulta o mesmo par duas vezes em sequência.
+     * Assert: Verifica se consultas que não se sobrepõem no tempo geram chamadas independentes à API externa.
+     */
+
+    @Test
+    void testSequentialFetchesAreNotCoalesced() {
+        when(awesomeApiClient.getLastCurrency("USD-BRL"))
+                .thenReturn(Map.of("USD-BRL", quote("USD-BRL", BigDecimal.valueOf(5))))
+                .thenReturn(Map.of("USD-BRL", quote("USD-BRL", BigDecimal.valueOf(6))));
+
+        assertThat(rateSource.fetch("USD-BRL").getRate()).isEqualTo(BigDecimal.valueOf(5));
+        assertThat(rateSource.fetch("USD-BRL").getRate()).isEqualTo(BigDecimal.valueOf(6));
+        verify(awesomeApiClient, times(2)).getLastCurrency("USD-BRL");
+    }
+
+    /**
+     * Mock: Configura o awesomeApiClient para responder 404 a qualquer lista que contenha o par inválido XXX-BRL
+     * e para devolver as cotações dos demais pares.
+     * Act: Busca quatro pares, sendo um deles inválido, com fetchAll.
+     * Assert: Verifica se os pares válidos foram resolvidos e se o par inválido ficou de fora do resultado.
+     */
+
+    @Test
+    void testFetchAllIsolatesUnknownPairs() {
+        when(awesomeApiClient.getLastCurrency(anyString())).thenAnswer(invocation -> {
+            String currencies = invocation.getArgument(0);
+            if (currencies.contains("XXX-BRL")) {
+                throw new FeignException.NotFound("not found",
+                        Request.create(Request.HttpMethod.GET, "/last/" + currencies, Map.of(), null, StandardCharsets.UTF_8, null),
+                        null, null);
+            }
+            Map<String, ExchangeRate> response = new HashMap<>();
+            for (String pair : currencies.split(",")) {
+                response.put(pair, quote(pair, BigDecimal.ONE));
+            }
+            return response;
+        });
+
+        Map<String, ExchangeRate> rates = rateSource.fetchAll(List.of("USD-BRL", "EUR-BRL", "XXX-BRL", "GBP-BRL"));
+
+        assertThat(rates).containsOnlyKeys("USD-BRL", "EUR-BRL", "GBP-BRL");
+        verify(awesomeApiClient).getLastCurrency("USD-BRL,EUR-BRL,XXX-BRL,GBP-BRL");
+        verify(awesomeApiClient).getLastCurrency("USD-BRL,EUR-BRL");
+    }
+
+    /**
+     * Mock: Configura o awesomeApiClient para responder 503 em todas as chamadas.
+     * Act: Consulta o par USD-BRL seis vezes.
+     * Assert: Verifica se cada falha vira RateSourceUnavailableException e se, depois de quatro falhas, o circuito
+     * abre e as consultas seguintes são recusadas sem chamar a API externa.
+     */
+
+    @Test
+    void testUpstreamFailuresOpenCircuit() {
+        when(awesomeApiClient.getLastCurrency("USD-BRL")).thenThrow(new FeignException.ServiceUnavailable("unavailable",
+                Request.create(Request.HttpMethod.GET, "/last/USD-BRL", Map.of(), null, StandardCharsets.UTF_8, null),
+                null, null));
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> rateSource.fetch("USD-BRL")).isInstanceOf(RateSourceUnavailableException.class);
+        }
+
+        verify(awesomeApiClient, times(4)).getLastCurrency("USD-BRL");
+    }
+
+    /**
+     * Mock: Configura o awesomeApiClient para responder 404 ao par inexistente XXX-BRL.
+     * Act: Consulta o par seis vezes.
+     * Assert: Verifica se o 404 continua chegando como FeignException.NotFound e não abre o circuito.
+     */
+
+    @Test
+    void testNotFoundDoesNotOpenCircuit() {
+        when(awesomeApiClient.getLastCurrency("XXX-BRL")).thenThrow(new FeignException.NotFound("not found",
+                Request.create(Request.HttpMethod.GET, "/last/XXX-BRL", Map.of(), null, StandardCharsets.UTF_8, null),
+                null, null));
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> rateSource.fetch("XXX-BRL")).isInstanceOf(FeignException.NotFound.class);
+        }
+
+        verify(awesomeApiClient, times(6)).getLastCurrency("XXX-BRL");
+    }
+
+    private List<Future<ExchangeRate>> submitConcurrently(Callable<ExchangeRate> task) throws InterruptedException {
+        CyclicBarrier start = new CyclicBarrier(CALLERS);
+        CountDownLatch started = new CountDownLatch(CALLERS);
+        List<Future<ExchangeRate>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                started.countDown();
+                return task.call();
+            }));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+        return results;
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.CrossRateProperties;
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
+import br.com.ada.currencyapi.domain.ConversionRate;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.domain.RateType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrossRateEngineTest {
+
+    private CrossRateProperties properties;
+
+    private RateSnapshotHolder snapshotHolder;
+
+    private CrossRateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        RatePrefetchProperties prefetchProperties = new RatePrefetchProperties();
+        prefetchProperties.setBaseCurrency("BRL");
+        properties = new CrossRateProperties();
+        snapshotHolder = new RateSnapshotHolder(prefetchProperties);
+        engine = new CrossRateEngine(snapshotHolder, prefetchProperties, properties);
+
+        Map<String, ExchangeRate> rates = new HashMap<>();
+        rates.put("USD-BRL", rate("USD-BRL", "5"));
+        rates.put("EUR-BRL", rate("EUR-BRL", "6"));
+        rates.put("JPY-BRL", rate("JPY-BRL", "0.03"));
+        snapshotHolder.publish(new RateSnapshot("BRL", rates, Instant.now()));
+    }
+
+    private static ExchangeRate rate(String pair, String value) {
+        return ExchangeRate.builder().pair(pair).rate(new BigDecimal(value)).fetchedAt(Instant.now()).build();
+    }
+
+    /**
+     * Act: Deriva a taxa USD-BRL, cuja moeda de destino é o pivô.
+     * Assert: Verifica se a cotação do vetor é usada diretamente e marcada como DIRECT.
+     */
+
+    @Test
+    void testDeriveToPivotIsDirect() {
+        ConversionRate result = engine.derive("USD", "BRL");
+
+        assertThat(result.getRate()).isEqualByComparingTo("5");
+        assertThat(result.getType()).isEqualTo(RateType.DIRECT);
+    }
+
+    /**
+     * Act: Deriva a taxa BRL-USD, cuja moeda de origem é o pivô.
+     * Assert: Verifica se a taxa é o inverso da cotação USD-BRL e marcada como INVERSE.
+     */
+
+    @Test
+    void testDeriveFromPivotIsInverse() {
+        ConversionRate result = engine.derive("BRL", "USD");
+
+        assertThat(result.getRate()).isEqualByComparingTo("0.2");
+        assertThat(result.getType()).isEqualTo(RateType.INVERSE);
+    }
+
+    /**
+     * Act: Deriva a taxa EUR-JPY, sem nenhuma das moedas ser o pivô.
+     * Assert: Verifica se a taxa é EUR-BRL / JPY-BRL, arredondada com a precisão configurada, e marcada como TRIANGULATED.
+     */
+
+    @Test
+    void testDeriveCrossRateIsTriangulated() {
+        properties.setPrecision(6);
+        properties.setRoundingMode(RoundingMode.HALF_UP);
+
+        ConversionRate result = engine.derive("USD", "JPY");
+
+        assertThat(result.getRate()).isEqualTo(new BigDecimal("166.667"));
+        assertThat(result.getType()).isEqualTo(RateType.TRIANGULATED);
+    }
+
+    /**
+     * Act: Deriva uma taxa envolvendo uma moeda ausente do vetor.
+     * Assert: Verifica se o motor devolve null em vez de uma taxa inventada.
+     */
+
+    @Test
+    void testDeriveReturnsNullWhenLegIsMissing() {
+        assertThat(engine.derive("GBP", "USD")).isNull();
+        assertThat(engine.derive("USD", "GBP")).isNull();
+        assertThat(engine.derive("BRL", "GBP")).isNull();
+    }
+
+    /**
+     * Act: Deriva a taxa de uma moeda para ela mesma.
+     * Assert: Verifica se a taxa é 1, sem consultar o vetor.
+     */
+
+    @Test
+    void testDeriveSameCurrencyIsOne() {
+        ConversionRate result = engine.derive("GBP", "GBP");
+
+        assertThat(result.getRate()).isEqualByComparingTo("1");
+        assertThat(result.getType()).isEqualTo(RateType.DIRECT);
+    }
+}
@@ -0,0 +1,282 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RateCacheProperties;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.domain.RateCacheStatsResponse;
+import br.com.ada.currencyapi.exception.RateSourceUnavailableException;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ExchangeRateCacheTest {
+
+    @Mock
+    private RateBatchDispatcher batchDispatcher;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private RateCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties = new RateCacheProperties();
+        properties.setTtl(Duration.ofSeconds(60));
+        properties.setRefreshAfter(Duration.ofSeconds(45));
+        properties.setMaxEntries(2);
+    }
+
+    private ExchangeRateCache newCache() {
+        return new ExchangeRateCache(batchDispatcher, properties, nanos::get, Runnable::run);
+    }
+
+    private static ExchangeRate rate(String pair, long value) {
+        return ExchangeRate.builder().pair(pair).rate(BigDecimal.valueOf(value)).fetchedAt(Instant.now()).build();
+    }
+
+    /**
+     * Mock: Configura o dispatcher de taxas para retornar a taxa do par USD-BRL.
+     * Act: Consulta o mesmo par duas vezes.
+     * Assert: Verifica se houve um miss seguido de um hit e se o dispatcher foi chamada apenas uma vez.
+     */
+
+    @Test
+    void testGetCountsHitsAndMisses() {
+        when(batchDispatcher.fetch("USD-BRL")).thenReturn(rate("USD-BRL", 5));
+        ExchangeRateCache cache = newCache();
+
+        cache.get("USD-BRL");
+        ExchangeRate result = cache.get("USD-BRL");
+
+        RateCacheStatsResponse stats = cache.stats();
+        assertThat(result.getRate()).isEqualTo(BigDecimal.valueOf(5));
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        verify(batchDispatcher, times(1)).fetch("USD-BRL");
+    }
+
+    /**
+     * Arrange: Carrega o par USD-BRL e avança o relógio além do TTL.
+     * Act: Consulta o par novamente.
+     * Assert: Verifica se a entrada expirada foi recarregada pelo dispatcher.
+     */
+
+    @Test
+    void testGetReloadsAfterTtl() {
+        when(batchDispatcher.fetch("USD-BRL")).thenReturn(rate("USD-BRL", 5), rate("USD-BRL", 6));
+        ExchangeRateCache cache = newCache();
+
+        cache.get("USD-BRL");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        ExchangeRate result = cache.get("USD-BRL");
+
+        assertThat(result.getRate()).isEqualTo(BigDecimal.valueOf(6));
+        verify(batchDispatcher, times(2)).fetch("USD-BRL");
+    }
+
+    /**
+     * Mock: Configura o dispatcher de taxas para não conhecer o par XXX-BRL (resposta sem o par).
+     * Act: Consulta o par duas vezes dentro do unknownPairTtl e mais uma vez depois dele.
+     * Assert: Verifica se as leituras devolvem null, se a segunda foi respondida pelo cache negativo
+     * e se o par volta a ser consultado depois que o unknownPairTtl expira.
+     */
+
+    @Test
+    void testGetRemembersUnknownPairUntilTtl() {
+        properties.setUnknownPairTtl(Duration.ofMinutes(10));
+        ExchangeRateCache cache = newCache();
+
+        assertThat(cache.get("XXX-BRL")).isNull();
+        assertThat(cache.get("XXX-BRL")).isNull();
+        verify(batchDispatcher, times(1)).fetch("XXX-BRL");
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        assertThat(cache.get("XXX-BRL")).isNull();
+        verify(batchDispatcher, times(2)).fetch("XXX-BRL");
+    }
+
+    /**
+     * Mock: Configura o dispatcher de taxas para lançar FeignException.NotFound para o par XXX-BRL.
+     * Act: Consulta o par pelo caminho síncrono e depois pelo assíncrono.
+     * Assert: Verifica se o 404 vira null e se o caminho assíncrono também respeita o cache negativo, sem chamar o loader.
+     */
+
+    @Test
+    void testNotFoundIsRememberedForBothPaths() {
+        when(batchDispatcher.fetch("XXX-BRL")).thenThrow(new FeignException.NotFound("not found",
+                Request.create(Request.HttpMethod.GET, "/json/last/XXX-BRL", Map.of(), null, null, null), null, null));
+        ExchangeRateCache cache = newCache();
+        AtomicBoolean loaderCalled = new AtomicBoolean();
+
+        assertThat(cache.get("XXX-BRL")).isNull();
+        ExchangeRate async = cache.getAsync("XXX-BRL", pair -> {
+            loaderCalled.set(true);
+            return CompletableFuture.completedFuture(null);
+        }).join();
+
+        assertThat(async).isNull();
+        assertThat(loaderCalled).isFalse();
+    }
+
+    /**
+     * Arrange: Carrega o par USD-BRL, passa a adiar as tarefas do executor e avança o relógio além do refreshAfter,
+     * mas antes do TTL.
+     * Act: Consulta o par duas vezes.
+     * Assert: Verifica se a primeira leitura devolve a taxa antiga (sem esperar) e agenda a recarga em segundo plano,
+     * e se, após a recarga, a leitura seguinte já devolve a taxa nova.
+     */
+
+    @Test
+    void testGetRefreshesAheadOfExpiry() {
+        when(batchDispatcher.fetch("USD-BRL")).thenReturn(rate("USD-BRL", 5), rate("USD-BRL", 6));
+        Queue<Runnable> pendingRefreshes = new ArrayDeque<>();
+        AtomicBoolean deferTasks = new AtomicBoolean();
+        ExchangeRateCache cache = new ExchangeRateCache(batchDispatcher, properties, nanos::get, task -> {
+            if (deferTasks.get()) {
+                pendingRefreshes.add(task);
+            } else {
+                task.run();
+            }
+        });
+
+        cache.get("USD-BRL");
+        deferTasks.set(true);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(50));
+
+        assertThat(cache.get("USD-BRL").getRate()).isEqualTo(BigDecimal.valueOf(5));
+        verify(batchDispatcher, times(1)).fetch("USD-BRL");
+
+        deferTasks.set(false);
+        while (!pendingRefreshes.isEmpty()) {
+            pendingRefreshes.poll().run();
+        }
+
+        assertThat(cache.get("USD-BRL").getRate()).isEqualTo(BigDecimal.valueOf(6));
+        verify(batchDispatcher, times(2)).fetch("USD-BRL");
+    }
+
+    /**
+     * Arrange: Carrega o par USD-BRL, avança o relógio além do TTL e configura o dispatcher para falhar com
+     * RateSourceUnavailableException.
+     * Act: Consulta o par novamente.
+     * Assert: Verifica se a última taxa conhecida foi devolvida, marcada como obsoleta.
+     */
+
+    @Test
+    void testGetServesLastKnownRateWhenUpstreamIsUnavailable() {
+        when(batchDispatcher.fetch("USD-BRL"))
+                .thenReturn(rate("USD-BRL", 5))
+                .thenThrow(new RateSourceUnavailableException("Exchange rate service unavailable for USD-BRL", null));
+        ExchangeRateCache cache = newCache();
+
+        cache.get("USD-BRL");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        ExchangeRate result = cache.get("USD-BRL");
+
+        assertThat(result.getRate()).isEqualTo(BigDecimal.valueOf(5));
+        assertThat(result.isStale()).isTrue();
+    }
+
+    /**
+     * Arrange: Carrega o par USD-BRL, avança o relógio além do TTL e passa a adiar as tarefas do executor, deixando a
+     * recarga em andamento.
+     * Act: Consulta o par antes e depois de concluir a recarga.
+     * Assert: Verifica se, com a recarga em andamento, a última taxa conhecida é devolvida sem esperar, e se depois a
+     * taxa nova é devolvida sem a marca de obsoleta.
+     */
+
+    @Test
+    void testGetServesLastKnownRateWhileReloadIsInFlight() {
+        when(batchDispatcher.fetch("USD-BRL")).thenReturn(rate("USD-BRL", 5), rate("USD-BRL", 6));
+        Queue<Runnable> pendingLoads = new ArrayDeque<>();
+        AtomicBoolean deferTasks = new AtomicBoolean();
+        ExchangeRateCache cache = new ExchangeRateCache(batchDispatcher, properties, nanos::get, task -> {
+            if (deferTasks.get()) {
+                pendingLoads.add(task);
+            } else {
+                task.run();
+            }
+        });
+
+        cache.get("USD-BRL");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        deferTasks.set(true);
+
+        ExchangeRate stale = cache.get("USD-BRL");
+        assertThat(stale.getRate()).isEqualTo(BigDecimal.valueOf(5));
+        assertThat(stale.isStale()).isTrue();
+
+        deferTasks.set(false);
+        while (!pendingLoads.isEmpty()) {
+            pendingLoads.poll().run();
+        }
+
+        ExchangeRate fresh = cache.get("USD-BRL");
+        assertThat(fresh.getRate()).isEqualTo(BigDecimal.valueOf(6));
+        assertThat(fresh.isStale()).isFalse();
+    }
+
+    /**
+     * Mock: Configura o dispatcher para falhar com RateSourceUnavailableException.
+     * Act & Assert: Verifica se, sem taxa conhecida para o par, a exceção chega ao chamador.
+     */
+
+    @Test
+    void testGetFailsWhenUpstreamIsUnavailableAndNoRateIsKnown() {
+        when(batchDispatcher.fetch("USD-BRL")).thenThrow(new RateSourceUnavailableException("Exchange rate service unavailable for USD-BRL", null));
+        ExchangeRateCache cache = newCache();
+
+        assertThatThrownBy(() -> cache.get("USD-BRL")).isInstanceOf(RateSourceUnavailableException.class);
+    }
+
+    /**
+     * Arrange: Configura o cache com no máximo duas entradas.
+     * Act: Carrega três pares distintos.
+     * Assert: Verifica se o tamanho respeita o limite e se a remoção foi contabilizada.
+     */
+
+    @Test
+    void testGetEvictsBeyondMaxEntries() {
+        when(batchDispatcher.fetch(anyString())).thenAnswer(invocation -> rate(invocation.getArgument(0), 1));
+        ExchangeRateCache cache = newCache();
+
+        cache.get("USD-BRL");
+        cache.get("EUR-BRL");
+        cache.get("GBP-BRL");
+        cache.cleanUp();
+
+        RateCacheStatsResponse stats = cache.stats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+    }
+
+    /**
+     * Arrange: Configura refreshAfter maior que o TTL.
+     * Act & Assert: Verifica se a construção do cache é rejeitada.
+     */
+
+    @Test
+    void testRejectsRefreshAfterNotShorterThanTtl() {
+        properties.setRefreshAfter(Duration.ofSeconds(60));
+
+        assertThatThrownBy(this::newCache).isInstanceOf(IllegalArgumentException.class);
+    }
+}
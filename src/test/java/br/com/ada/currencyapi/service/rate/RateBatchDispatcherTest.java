@@ -0,0 +1,129 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RateBatchProperties;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RateBatchDispatcherTest {
+
+    @Mock
+    private AwesomeApiRateSource rateSource;
+
+    private RateBatchProperties properties;
+
+    private ExecutorService dispatchExecutor;
+
+    private RateBatchDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties = new RateBatchProperties();
+        properties.setWindow(Duration.ofMillis(100));
+        properties.setMaxPairs(10);
+        when(rateSource.fetchAll(anyList())).thenAnswer(invocation -> {
+            Map<String, ExchangeRate> rates = new HashMap<>();
+            for (String pair : invocation.<List<String>>getArgument(0)) {
+                rates.put(pair, ExchangeRate.builder().pair(pair).rate(BigDecimal.ONE).fetchedAt(Instant.now()).build());
+            }
+            return rates;
+        });
+        dispatchExecutor = Executors.newCachedThreadPool();
+        dispatcher = new RateBatchDispatcher(rateSource, properties, dispatchExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        dispatchExecutor.shutdownNow();
+    }
+
+    /**
+     * Act: Solicita três pares distintos (um deles duas vezes) dentro da mesma janela.
+     * Assert: Verifica se todos foram enviados em uma única chamada, sem repetir o par duplicado,
+     * e se cada chamador recebeu a taxa do seu próprio par.
+     */
+
+    @Test
+    void testPairsWithinWindowAreFetchedTogether() throws Exception {
+        CompletableFuture<ExchangeRate> usd = dispatcher.submit("USD-BRL");
+        CompletableFuture<ExchangeRate> eur = dispatcher.submit("EUR-BRL");
+        CompletableFuture<ExchangeRate> usdAgain = dispatcher.submit("USD-BRL");
+        CompletableFuture<ExchangeRate> gbp = dispatcher.submit("GBP-BRL");
+
+        assertThat(usd.get(5, TimeUnit.SECONDS).getPair()).isEqualTo("USD-BRL");
+        assertThat(eur.get(5, TimeUnit.SECONDS).getPair()).isEqualTo("EUR-BRL");
+        assertThat(gbp.get(5, TimeUnit.SECONDS).getPair()).isEqualTo("GBP-BRL");
+        assertThat(usdAgain).isSameAs(usd);
+        verify(rateSource, times(1)).fetchAll(List.of("USD-BRL", "EUR-BRL", "GBP-BRL"));
+    }
+
+    /**
+     * Arrange: Configura uma janela longa e um limite de dois pares por lote.
+     * Act: Solicita dois pares.
+     * Assert: Verifica se o lote foi enviado ao atingir o limite, sem esperar o fim da janela.
+     */
+
+    @Test
+    void testBatchIsDispatchedWhenMaxPairsIsReached() throws Exception {
+        properties.setWindow(Duration.ofMinutes(1));
+        properties.setMaxPairs(2);
+
+        CompletableFuture<ExchangeRate> usd = dispatcher.submit("USD-BRL");
+        CompletableFuture<ExchangeRate> eur = dispatcher.submit("EUR-BRL");
+
+        assertThat(usd.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(eur.get(1, TimeUnit.SECONDS)).isNotNull();
+        verify(rateSource, times(1)).fetchAll(List.of("USD-BRL", "EUR-BRL"));
+    }
+
+    /**
+     * Mock: Configura a fonte de taxas para falhar ao buscar o lote.
+     * Act & Assert: Verifica se a mesma exceção é repassada a todos os chamadores do lote.
+     */
+
+    @Test
+    void testBatchFailureIsPropagatedToEveryCaller() {
+        IllegalStateException failure = new IllegalStateException("upstream unavailable");
+        when(rateSource.fetchAll(anyList())).thenThrow(failure);
+
+        assertThatThrownBy(() -> dispatcher.fetch("USD-BRL")).isSameAs(failure);
+        assertThatThrownBy(() -> dispatcher.fetch("EUR-BRL")).isSameAs(failure);
+    }
+
+    /**
+     * Arrange: Desabilita o agrupamento.
+     * Act: Solicita um par.
+     * Assert: Verifica se a consulta foi feita diretamente pela fonte de taxas, sem passar pelo lote.
+     */
+
+    @Test
+    void testFetchBypassesBatchingWhenDisabled() {
+        properties.setEnabled(false);
+        ExchangeRate rate = ExchangeRate.builder().pair("USD-BRL").rate(BigDecimal.TEN).fetchedAt(Instant.now()).build();
+        when(rateSource.fetch("USD-BRL")).thenReturn(rate);
+
+        assertThat(dispatcher.fetch("USD-BRL")).isSameAs(rate);
+        verify(rateSource, never()).fetchAll(anyList());
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.ada.currencyapi.service.rate;
+
+import br.com.ada.currencyapi.config.RatePrefetchProperties;
+import br.com.ada.currencyapi.domain.Currency;
+import br.com.ada.currencyapi.domain.ExchangeRate;
+import br.com.ada.currencyapi.repository.CurrencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RatePrefetcherTest {
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    @Mock
+    private AwesomeApiRateSource rateSource;
+
+    @Mock
+    private ExchangeRateCache exchangeRateCache;
+
+    private RatePrefetchProperties properties;
+
+    private RateSnapshotHolder snapshotHolder;
+
+    private RatePrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties = new RatePrefetchProperties();
+        properties.setBaseCurrency("BRL");
+        properties.setChunkSize(2);
+        snapshotHolder = new RateSnapshotHolder(properties);
+        prefetcher = new RatePrefetcher(currencyRepository, rateSource, snapshotHolder, properties, exchangeRateCache);
+
+        when(currencyRepository.findAll()).thenReturn(List.of(
+                Currency.builder().code("USD").name("Dólar Americano").build(),
+                Currency.builder().code("BRL").name("Real Brasileiro").build(),
+                Currency.builder().code("EUR").name("Euro").build(),
+                Currency.builder().code("GBP").name("Libra Esterlina").build()));
+    }
+
+    private static Map<String, ExchangeRate> ratesFor(List<String> pairs, long value) {
+        Map<String, ExchangeRate> rates = new HashMap<>();
+        pairs.forEach(pair -> rates.put(pair, ExchangeRate.builder()
+                .pair(pair).rate(BigDecimal.valueOf(value)).fetchedAt(Instant.now()).build()));
+        return rates;
+    }
+
+    /**
+     * Mock: Configura a fonte de taxas para devolver a cotação de todos os pares solicitados.
+     * Act: Executa o pré-carregamento com lotes de dois pares.
+     * Assert: Verifica se a moeda base foi ignorada, se os pares foram buscados em lotes
+     * e se o snapshot publicado contém todas as cotações contra a moeda base.
+     */
+
+    @Test
+    void testRefreshPublishesChunkedSnapshot() {
+        when(rateSource.fetchAll(anyList())).thenAnswer(invocation -> ratesFor(invocation.getArgument(0), 5));
+
+        prefetcher.refresh();
+
+        RateSnapshot snapshot = snapshotHolder.current();
+        assertThat(snapshot.getBaseCurrency()).isEqualTo("BRL");
+        assertThat(snapshot.getRates()).containsOnlyKeys("USD-BRL", "EUR-BRL", "GBP-BRL");
+        verify(rateSource).fetchAll(List.of("USD-BRL", "EUR-BRL"));
+        verify(rateSource).fetchAll(List.of("GBP-BRL"));
+    }
+
+    /**
+     * Arrange: Executa um primeiro pré-carregamento com sucesso.
+     * Mock: Configura a fonte de taxas para falhar no segundo lote da próxima execução.
+     * Act: Executa o pré-carregamento novamente.
+     * Assert: Verifica se as cotações do lote que falhou foram mantidas a partir do snapshot anterior.
+     */
+
+    @Test
+    void testRefreshKeepsPreviousRatesForFailedChunks() {
+        when(rateSource.fetchAll(anyList())).thenAnswer(invocation -> ratesFor(invocation.getArgument(0), 5));
+        prefetcher.refresh();
+
+        when(rateSource.fetchAll(List.of("USD-BRL", "EUR-BRL"))).thenReturn(ratesFor(List.of("USD-BRL", "EUR-BRL"), 6));
+        when(rateSource.fetchAll(List.of("GBP-BRL"))).thenThrow(new IllegalStateException("upstream unavailable"));
+        prefetcher.refresh();
+
+        RateSnapshot snapshot = snapshotHolder.current();
+        assertThat(snapshot.get("USD-BRL").getRate()).isEqualTo(BigDecimal.valueOf(6));
+        assertThat(snapshot.get("GBP-BRL").getRate()).isEqualTo(BigDecimal.valueOf(5));
+    }
+
+    /**
+     * Mock: Configura a fonte de taxas para deixar EUR-BRL fora da resposta, como faz ao isolar um par com 404.
+     * Act: Executa o pré-carregamento duas vezes, com o cache passando a conhecer EUR-BRL como desconhecido.
+     * Assert: Verifica se o par isolado foi registrado no cache de pares desconhecidos e se a segunda execução não
+     * o buscou de novo.
+     */
+
+    @Test
+    void testRefreshRecordsAndSkipsUnknownPairs() {
+        when(rateSource.fetchAll(anyList())).thenAnswer(invocation -> {
+            Map<String, ExchangeRate> rates = ratesFor(invocation.getArgument(0), 5);
+            rates.remove("EUR-BRL");
+            return rates;
+        });
+
+        prefetcher.refresh();
+        verify(exchangeRateCache).markUnknown("EUR-BRL");
+        verify(exchangeRateCache, never()).markUnknown("USD-BRL");
+
+        when(exchangeRateCache.isUnknown("EUR-BRL")).thenReturn(true);
+        prefetcher.refresh();
+
+        verify(rateSource).fetchAll(List.of("USD-BRL", "GBP-BRL"));
+        assertThat(snapshotHolder.current().getRates()).containsOnlyKeys("USD-BRL", "GBP-BRL");
+    }
+
+    /**
+     * Arrange: Executa um primeiro pré-carregamento com sucesso.
+     * Mock: Remove GBP do catálogo e configura a fonte de taxas para falhar em todos os lotes.
+     * Act: Executa o pré-carregamento novamente.
+     * Assert: Verifica se só as cotações de moedas que continuam no catálogo foram mantidas.
+     */
+
+    @Test
+    void testRefreshDropsRatesOfCodesRemovedFromTheCatalog() {
+        when(rateSource.fetchAll(anyList())).thenAnswer(invocation -> ratesFor(invocation.getArgument(0), 5));
+        prefetcher.refresh();
+
+        when(currencyRepository.findAll()).thenReturn(List.of(
+                Currency.builder().code("USD").name("Dólar Americano").build(),
+                Currency.builder().code("EUR").name("Euro").build()));
+        when(rateSource.fetchAll(anyList())).thenThrow(new IllegalStateException("upstream unavailable"));
+        prefetcher.refresh();
+
+        assertThat(snapshotHolder.current().getRates()).containsOnlyKeys("USD-BRL", "EUR-BRL");
+    }
+
+    /**
+     * Arrange: Publica um snapshot com uma cotação obtida há mais tempo que o limite maxAge.
+     * Act & Assert: Verifica se a cotação antiga não é considerada válida para conversão.
+     */
+
+    @Test
+    void testFindFreshIgnoresRatesOlderThanMaxAge() {
+        properties.setMaxAge(Duration.ofMinutes(5));
+        ExchangeRate old = ExchangeRate.builder().pair("USD-BRL").rate(BigDecimal.ONE)
+                .fetchedAt(Instant.now().minus(Duration.ofMinutes(10))).build();
+        snapshotHolder.publish(new RateSnapshot("BRL", Map.of("USD-BRL", old), Instant.now()));
+
+        assertThat(snapshotHolder.findFresh("USD-BRL")).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.ada.currencyapi.support;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Distribuição de latência do {@link StubAwesomeApiServer}. Aceita as formas {@code fixed:50ms},
+ * {@code uniform:20ms-80ms} e {@code lognormal:40ms,0.5} (mediana e desvio-padrão do logaritmo), para que os testes de
+ * carga possam configurá-la por propriedade de sistema.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    Duration next(Random random);
+
+    static LatencyDistribution fixed(Duration latency) {
+        return random -> latency;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        return random -> Duration.ofNanos(minNanos + (long) (random.nextDouble() * (maxNanos - minNanos)));
+    }
+
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(median.toNanos());
+        return random -> Duration.ofNanos((long) Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        String arguments = parts.length > 1 ? parts[1] : "";
+        return switch (parts[0]) {
+            case "fixed" -> fixed(duration(arguments));
+            case "uniform" -> {
+                String[] bounds = arguments.split("-");
+                yield uniform(duration(bounds[0]), duration(bounds[1]));
+            }
+            case "lognormal" -> {
+                String[] values = arguments.split(",");
+                yield logNormal(duration(values[0]), Double.parseDouble(values[1]));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+
+    private static Duration duration(String value) {
+        String trimmed = value.trim();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofMillis(Long.parseLong(trimmed));
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.ada.currencyapi.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Servidor HTTP local que imita o endpoint {@code /json/last/{pares}} da AwesomeAPI, respondendo qualquer par com
+ * uma cotação fixa após uma latência sorteada de uma {@link LatencyDistribution}. Como a API real, responde 404 para a
+ * requisição inteira quando algum dos pares foi marcado como desconhecido ou fica fora da cobertura configurada, e
+ * responde 500 a uma fração configurável das requisições. Registra quantas requisições chegaram e o pico de requisições
+ * simultâneas, para que os benchmarks possam medir a concorrência que a aplicação consegue manter. Comprime a
+ * resposta com gzip quando o cliente aceita e conta as conexões distintas abertas pelos clientes.
+ */
+public class StubAwesomeApiServer implements AutoCloseable {
+
+    private static final String LAST_PATH = "/json/last/";
+
+    static {
+        // Cabeçalhos e corpo saem em escritas separadas; sem TCP_NODELAY, o Nagle somado ao ACK atrasado do cliente
+        // acrescenta ~40ms a cada chamada numa conexão keep-alive.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final LatencyDistribution latency;
+    private final Random random = new Random(42);
+    private volatile double errorRate;
+    private volatile double pairCoverage = 1.0;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong gzipResponses = new AtomicLong();
+    private final AtomicLong errorResponses = new AtomicLong();
+    private final Set<String> unknownPairs = ConcurrentHashMap.newKeySet();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    public StubAwesomeApiServer(Duration latency) throws IOException {
+        this(LatencyDistribution.fixed(latency));
+    }
+
+    public StubAwesomeApiServer(LatencyDistribution latency) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext(LAST_PATH, this::handle);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/json";
+    }
+
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long gzipResponses() {
+        return gzipResponses.get();
+    }
+
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    public long errorResponses() {
+        return errorResponses.get();
+    }
+
+    /**
+     * Fração das requisições, entre 0 e 1, respondidas com 500.
+     */
+    public void errorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Fração dos pares, entre 0 e 1, que o stub cota. A escolha depende só do par, então se repete entre execuções.
+     */
+    public void pairCoverage(double pairCoverage) {
+        this.pairCoverage = pairCoverage;
+    }
+
+    public void unknownPair(String pair) {
+        unknownPairs.add(pair);
+    }
+
+    public void reset() {
+        maxInFlight.set(0);
+        requestCount.set(0);
+        gzipResponses.set(0);
+        errorResponses.set(0);
+        connections.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        connections.add(exchange.getRemoteAddress());
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(latency.next(random));
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                errorResponses.incrementAndGet();
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            String pairs = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring(LAST_PATH.length()), StandardCharsets.UTF_8);
+            String[] requested = pairs.split(",");
+            if (Arrays.stream(requested).anyMatch(pair -> unknownPairs.contains(pair) || !covered(pair))) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = quotes(requested).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = gzip(body);
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                gzipResponses.incrementAndGet();
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private boolean covered(String pair) {
+        return pairCoverage >= 1.0 || Math.floorMod(pair.hashCode(), 10_000) < pairCoverage * 10_000;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String quotes(String[] pairs) {
+        StringJoiner json = new StringJoiner(",", "{", "}");
+        for (String pair : pairs) {
+            String[] codes = pair.split("-");
+            json.add("\"" + codes[0] + codes[1] + "\":{\"code\":\"" + codes[0] + "\",\"codein\":\"" + codes[1]
+                    + "\",\"high\":\"1.25\",\"low\":\"1.2\",\"bid\":\"1.22\",\"ask\":\"1.23\"}");
+        }
+        return json.toString();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}